@@ -0,0 +1,93 @@
+#!/usr/bin/env bash
+# Starts the native image once per persistence backend and drives the consent and account endpoints
+# through one happy path, so reflection, resource or serialization metadata missing from the image
+# shows up as a failed request instead of in production.
+#
+#   ./gradlew nativeCompile && ./scripts/native-smoke-test.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+NATIVE=${NATIVE:-build/native/nativeCompile/customer-data-api}
+BASE=${BASE:-http://localhost:8080/test-api}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-30}
+ACCOUNT_ID=87caf37b-f70f-440c-bacd-3b9399ca5d74
+
+if [ ! -x "$NATIVE" ]; then
+  echo "$NATIVE not found, run ./gradlew nativeCompile first" >&2
+  exit 1
+fi
+
+b64url() {
+  printf '%s' "$1" | base64 | tr -d '=\n' | tr '/+' '_-'
+}
+
+token() {
+  printf '%s.%s.' "$(b64url '{"alg":"none","typ":"JWT"}')" "$(b64url "{\"scope\":\"$1\",\"client_id\":\"smoke-test\"}")"
+}
+
+# expect <name> <status> <curl args...>: runs the request, checks the status and leaves the body in $BODY
+expect() {
+  local name=$1 status=$2
+  shift 2
+  local actual
+  actual=$(curl -s -o build/native-smoke-body -w '%{http_code}' "$@" || true)
+  BODY=$(cat build/native-smoke-body)
+  if [ "$actual" != "$status" ]; then
+    echo "FAIL $name: expected $status, got $actual: $BODY" >&2
+    return 1
+  fi
+  echo "ok   $name"
+}
+
+smoke() {
+  local consents consent_id accounts
+  consents=$(token "consents")
+
+  expect "unauthenticated request" 401 "$BASE/account/v1/accounts"
+
+  expect "create consent" 201 -X POST "$BASE/consents/v1/consents" \
+    -H "Authorization: Bearer $consents" -H 'Content-Type: application/json' \
+    -d "{\"data\":{\"permissions\":\"ACCOUNTS_READ\",\"expirationDateTime\":\"$(date -u -d '+1 day' +%Y-%m-%dT%H:%M:%SZ)\"}}"
+  consent_id=$(printf '%s' "$BODY" | grep -o '"consentId":"[^"]*"' | cut -d'"' -f4)
+
+  expect "authorise consent" 200 -X PUT "$BASE/consents/v1/consents/$consent_id" \
+    -H "Authorization: Bearer $consents" -H 'Content-Type: application/json' -d '{"data":{"status":"AUTHORISED"}}'
+  expect "get consent" 200 "$BASE/consents/v1/consents/$consent_id" -H "Authorization: Bearer $consents"
+  expect "list consents" 200 "$BASE/consents/v1/consents" -H "Authorization: Bearer $consents"
+
+  accounts=$(token "accounts consent:$consent_id")
+  expect "list accounts" 200 "$BASE/account/v1/accounts" -H "Authorization: Bearer $accounts"
+  grep -q "$ACCOUNT_ID" <<< "$BODY" || { echo "FAIL list accounts: $ACCOUNT_ID missing: $BODY" >&2; return 1; }
+  expect "get account" 200 "$BASE/account/v1/account/$ACCOUNT_ID" -H "Authorization: Bearer $accounts"
+  expect "batch accounts" 200 -X POST "$BASE/account/v1/accounts/batch" \
+    -H "Authorization: Bearer $accounts" -H 'Content-Type: application/json' -d "{\"data\":{\"accountIds\":[\"$ACCOUNT_ID\"]}}"
+  expect "export accounts" 200 "$BASE/account/v1/accounts/export" -H "Authorization: Bearer $accounts"
+  expect "list accounts as CBOR" 200 "$BASE/account/v1/accounts" -H "Authorization: Bearer $accounts" -H 'Accept: application/cbor'
+  expect "list accounts as Smile" 200 "$BASE/account/v1/accounts" -H "Authorization: Bearer $accounts" -H 'Accept: application/x-jackson-smile'
+}
+
+mkdir -p build
+for backend in ${BACKENDS:-jpa jdbc}; do
+  echo "== native image on $backend"
+  TEST_API_PERSISTENCE=$backend "$NATIVE" > "build/native-smoke-$backend.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  started=$(date +%s)
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "$BASE/account/v1/accounts" || true)" != "000" ]; do
+    if ! kill -0 "$pid" 2>/dev/null || [ $(( $(date +%s) - started )) -gt "$TIMEOUT_SECONDS" ]; then
+      echo "native image on $backend did not start, see build/native-smoke-$backend.log" >&2
+      exit 1
+    fi
+    sleep 0.2
+  done
+
+  if ! smoke; then
+    cat "build/native-smoke-$backend.log" >&2
+    exit 1
+  fi
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+done
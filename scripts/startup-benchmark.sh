@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+# Boots the JVM shadowJar and the native image in turn, once per persistence backend (Hibernate JPA
+# and Micronaut Data JDBC), against the in-memory H2 database and reports time to first response and
+# resident memory for each.
+#
+#   ./gradlew shadowJar nativeCompile && ./scripts/startup-benchmark.sh
+#
+# Each backend also gets a Lambda handler cold start and warm latency line from ./gradlew lambdaBenchmark.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAR=${JAR:-build/libs/customer-data-api-1.0-SNAPSHOT-all.jar}
+NATIVE=${NATIVE:-build/native/nativeCompile/customer-data-api}
+URL=${URL:-http://localhost:8080/account/v1/accounts}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-60}
+
+now_ms() {
+  date +%s%3N
+}
+
+rss_kb() {
+  awk '/VmRSS/ { print $2 }' "/proc/$1/status"
+}
+
+measure() {
+  local name=$1 artifact=$2
+  shift 2
+  if [ ! -e "$artifact" ]; then
+    echo "$name: $artifact not found, skipping" >&2
+    return
+  fi
+
+  local started pid elapsed
+  started=$(now_ms)
+  "$@" > "build/startup-$name.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  # Any HTTP answer counts as the first request being served; unauthenticated calls get a 401
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)" != "000" ]; do
+    if ! kill -0 "$pid" 2>/dev/null || [ $(( $(now_ms) - started )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+      echo "$name: did not answer within ${TIMEOUT_SECONDS}s, see build/startup-$name.log" >&2
+      kill "$pid" 2>/dev/null || true
+      return 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - started ))
+
+  printf '%-12s first request after %6d ms, RSS %8d KB\n' "$name" "$elapsed" "$(rss_kb "$pid")"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+mkdir -p build
+for backend in ${BACKENDS:-jpa jdbc}; do
+  TEST_API_PERSISTENCE=$backend measure "jvm-$backend" "$JAR" java -jar "$JAR"
+  TEST_API_PERSISTENCE=$backend measure "native-$backend" "$NATIVE" "$NATIVE"
+  # Cold start and warm latency of the Lambda handler, run in-process with a stub context
+  TEST_API_PERSISTENCE=$backend ./gradlew -q lambdaBenchmark 2>&1 | grep 'lambda cold start' | sed "s/^/lambda-$backend /" || true
+done
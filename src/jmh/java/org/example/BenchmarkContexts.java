@@ -0,0 +1,25 @@
+package org.example;
+
+import io.micronaut.context.ApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Starts the application context inside a benchmark fork, against its own in-memory database and
+ * with nothing running in the background.
+ */
+public final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    public static ApplicationContext start(String persistence, Map<String, Object> properties) {
+        Map<String, Object> config = new HashMap<>(properties);
+        config.putIfAbsent("datasources.default.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.put("test-api.consent-sweeper.enabled", "false");
+        config.put("jpa.default.properties.hibernate.show_sql", "false");
+        return ApplicationContext.run(config, persistence);
+    }
+}
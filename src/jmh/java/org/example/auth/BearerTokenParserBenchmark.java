@@ -0,0 +1,79 @@
+package org.example.auth;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Map.entry;
+
+/**
+ * {@link BearerTokenParser} against the regex and split/stream code it replaced, which is copied
+ * below as it was. Run with the gc profiler to compare the bytes allocated per header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BearerTokenParserBenchmark {
+
+    private static final Pattern BEARER = Pattern.compile("^Bearer\\s(?<token>.+)");
+    private static final Map<String, String> SCOPES_TO_ROLES = Map.ofEntries(
+            entry("accounts", "ACCOUNTS_READ"),
+            entry("credit-card", "CREDIT_CARD_READ"),
+            entry("consents", "CONSENTS_MANAGE")
+    );
+
+    @Param({"accounts consent:urn:bank:2d3a4ff2-3a3e-4a7b-9a4b-b45b0f0a6c1c",
+            "accounts credit-card consents openid consent:urn:bank:2d3a4ff2-3a3e-4a7b-9a4b-b45b0f0a6c1c"})
+    public String scopes;
+
+    private String header = "Bearer eyJhbGciOiJub25lIn0.eyJjbGllbnRfaWQiOiJUUFAifQ.";
+
+    @Benchmark
+    public String extractToken() {
+        return BearerTokenParser.extractToken(header);
+    }
+
+    @Benchmark
+    public String extractTokenLegacy() {
+        Matcher matcher = BEARER.matcher(header);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return matcher.group("token");
+    }
+
+    @Benchmark
+    public CallerInfo resolve() {
+        return BearerTokenParser.resolve(scopes, "TPP");
+    }
+
+    @Benchmark
+    public CallerInfo resolveLegacy() {
+        String[] split = scopes.split(" ");
+        return new CallerInfo("TPP", getConsentId(split), getRoles(split));
+    }
+
+    private static List<String> getRoles(String[] scopes) {
+        return Arrays.stream(scopes)
+                .map(SCOPES_TO_ROLES::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static String getConsentId(String[] scopes) {
+        return Arrays.stream(scopes)
+                .filter(Objects::nonNull)
+                .filter(a -> !a.isEmpty())
+                .filter(a -> a.startsWith("consent:urn:bank:"))
+                .findFirst().map(s -> s.replace("consent:", "")).orElse(null);
+    }
+}
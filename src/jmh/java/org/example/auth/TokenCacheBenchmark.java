@@ -0,0 +1,64 @@
+package org.example.auth;
+
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.PlainObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving a bearer token: a full parse, a cache hit, and a cache miss. Misses cycle
+ * through more distinct tokens than the cache holds, so every lookup hashes, parses and evicts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenCacheBenchmark {
+
+    private static final int CACHE_SIZE = 1_000;
+    private static final int MISS_TOKENS = CACHE_SIZE * 16;
+
+    private String token;
+    private String[] missTokens;
+    private TokenCache hitCache;
+    private TokenCache missCache;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        token = token("TPP", "accounts consents consent:urn:bank:2d3a4ff2-3a3e-4a7b-9a4b-b45b0f0a6c1c");
+        missTokens = new String[MISS_TOKENS];
+        for (int i = 0; i < MISS_TOKENS; i++) {
+            missTokens[i] = token("TPP-" + i, "accounts consent:urn:bank:" + i);
+        }
+        hitCache = new TokenCache(true, CACHE_SIZE, Duration.ofHours(1));
+        hitCache.get(token, SimpleAuthorisation::parseToken);
+        missCache = new TokenCache(true, CACHE_SIZE, Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public CallerInfo parse() {
+        return SimpleAuthorisation.parseToken(token);
+    }
+
+    @Benchmark
+    public CallerInfo cacheHit() {
+        return hitCache.get(token, SimpleAuthorisation::parseToken);
+    }
+
+    @Benchmark
+    public CallerInfo cacheMiss() {
+        String candidate = missTokens[next];
+        next = (next + 1) % MISS_TOKENS;
+        return missCache.get(candidate, SimpleAuthorisation::parseToken);
+    }
+
+    private static String token(String clientId, String scope) {
+        return new PlainObject(new Payload(Map.of("client_id", clientId, "scope", scope))).serialize();
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.controllers;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.serde.ObjectMapper;
+import org.example.BenchmarkContexts;
+import org.example.domain.responses.SampleResponses;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * CPU time against bytes saved for the compression levels {@code COMPRESSION_LEVEL} can be set to.
+ * Netty compresses with the JDK {@link Deflater} when no jzlib is on the classpath, so this measures
+ * the same work on a serialized account listing; gzip only adds a header and a CRC to it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"25", "1000"})
+    public int accounts;
+
+    @Param({"1", "6", "9"})
+    public int level;
+
+    private ApplicationContext context;
+    private byte[] body;
+    private byte[] buffer;
+    private Deflater deflater;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = BenchmarkContexts.start("jdbc", Map.of());
+        body = context.getBean(ObjectMapper.class).writeValueAsBytes(SampleResponses.accounts(accounts));
+        buffer = new byte[body.length + 64];
+        deflater = new Deflater(level, true);
+        // JMH has no column for the compressed size, so it goes into the log next to the timings
+        System.out.printf("%n%d accounts at level %d: %d bytes -> %d bytes%n", accounts, level, body.length, compress());
+    }
+
+    @TearDown
+    public void tearDown() {
+        deflater.end();
+        context.close();
+    }
+
+    @Benchmark
+    public int deflate() {
+        return compress();
+    }
+
+    private int compress() {
+        deflater.reset();
+        deflater.setInput(body);
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            length += deflater.deflate(buffer, 0, buffer.length);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.domain.responses;
+
+import org.example.util.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Account listing pages shaped like the ones the controllers return, for the serialization benchmarks.
+ */
+public final class SampleResponses {
+
+    private SampleResponses() {
+    }
+
+    public static ResponseListAccount accounts(int size) {
+        List<ResponseAccountData> data = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            data.add(new ResponseAccountData()
+                    .id(UUID.randomUUID().toString())
+                    .bank("Bank " + (i % 10))
+                    .accountNumber(String.format("%07d-%d", i, i % 10)));
+        }
+        ResponseListAccount response = new ResponseListAccount().data(data);
+        Utils.decorateResponse(response, "/test-api/accounts/v1/accounts?page-size=" + size, 1_000, size);
+        return response;
+    }
+}
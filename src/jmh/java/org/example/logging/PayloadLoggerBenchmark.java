@@ -0,0 +1,61 @@
+package org.example.logging;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpRequest;
+import io.micronaut.json.JsonMapper;
+import org.example.BenchmarkContexts;
+import org.example.domain.responses.ResponseListAccount;
+import org.example.domain.responses.SampleResponses;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What {@link PayloadLogger} costs a request thread: switched off, enabled but not sampling the
+ * request, and logging every payload. The logged events go through the same async appender as in
+ * production, written to {@code build/jmh/payloads.log} by the benchmark logback configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadLoggerBenchmark {
+
+    @Param({"off", "unsampled", "on"})
+    public String logging;
+
+    private ApplicationContext context;
+    private PayloadLogger logger;
+    private ResponseListAccount payload;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start("jdbc", Map.of());
+        JsonMapper mapper = context.getBean(JsonMapper.class);
+        logger = switch (logging) {
+            case "off" -> new PayloadLogger(mapper, false, 1.0, List.of());
+            case "unsampled" -> new PayloadLogger(mapper, true, 0.0, List.of());
+            default -> new PayloadLogger(mapper, true, 1.0, List.of());
+        };
+        payload = SampleResponses.accounts(25);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public HttpRequest<?> log() {
+        // A fresh request each time, since the sampling decision is kept on the request
+        MutableHttpRequest<?> request = HttpRequest.GET("/test-api/accounts/v1/accounts");
+        request.setAttribute("clientId", "TPP");
+        logger.log(request, payload);
+        return request;
+    }
+}
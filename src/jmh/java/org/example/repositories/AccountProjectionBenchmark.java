@@ -0,0 +1,98 @@
+package org.example.repositories;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import org.example.BenchmarkContexts;
+import org.example.domain.entities.Account;
+import org.example.domain.projections.AccountDetail;
+import org.example.domain.projections.AccountSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading accounts as {@link Account} entities against the projections the service now uses, on
+ * both persistence backends. {@code findAll(Pageable)} also counts the table, so the entity page
+ * should be compared with {@code listProjection} plus {@code count}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountProjectionBenchmark {
+
+    private static final int ACCOUNTS = 1_000;
+
+    @Param({"jpa", "jdbc"})
+    public String persistence;
+
+    @Param({"25", "100"})
+    public int pageSize;
+
+    private ApplicationContext context;
+    private AccountRepository accounts;
+    private UUID accountId;
+    private Pageable page;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(persistence, Map.of());
+        accounts = context.getBean(AccountRepository.class);
+        List<Account> seeded = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            seeded.add(account(i));
+        }
+        accounts.saveAll(seeded);
+        accountId = seeded.get(ACCOUNTS / 2).getId();
+        page = Pageable.from(0, pageSize, Sort.of(Sort.Order.asc("id")));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Account> findEntity() {
+        return accounts.findById(accountId);
+    }
+
+    @Benchmark
+    public Optional<AccountDetail> findProjection() {
+        return accounts.searchById(accountId);
+    }
+
+    @Benchmark
+    public List<Account> listEntities() {
+        return accounts.findAll(page).getContent();
+    }
+
+    @Benchmark
+    public List<AccountSummary> listProjection() {
+        return accounts.list(page);
+    }
+
+    @Benchmark
+    public long count() {
+        return accounts.count();
+    }
+
+    private static Account account(int i) {
+        Account account = new Account();
+        account.setId(UUID.randomUUID());
+        account.setBank("Bank " + (i % 10));
+        account.setAccountNumber(String.format("%07d-%d", i, i % 10));
+        account.setCreationDateTime(LocalDateTime.now());
+        account.setStatusUpdateDateTime(LocalDateTime.now());
+        return account;
+    }
+}
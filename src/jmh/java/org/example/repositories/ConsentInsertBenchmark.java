@@ -0,0 +1,73 @@
+package org.example.repositories;
+
+import io.micronaut.context.ApplicationContext;
+import org.example.BenchmarkContexts;
+import org.example.util.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput into the consents primary key with random version 4 ids against the time-ordered
+ * version 7 ids the service now issues. Each iteration starts from an empty table, and the table grows
+ * to a few hundred thousand rows over the iteration, so the random keys have to split pages all
+ * over the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConsentInsertBenchmark {
+
+    @Param({"v4", "v7"})
+    public String ids;
+
+    private String url;
+    private ApplicationContext context;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup
+    public void setUp() throws SQLException {
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        context = BenchmarkContexts.start("jdbc", Map.of("datasources.default.url", url));
+        connection = DriverManager.getConnection(url, "sa", "");
+        insert = connection.prepareStatement("INSERT INTO consents (id, client_id, status, consent_permission, " +
+                "creation_date_time, status_update_date_time, expiration_date_time, version) VALUES (?, 'TPP', " +
+                "'AWAITING_AUTHORISATION', 'ACCOUNTS_READ', ?, ?, ?, 0)");
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTable() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM consents");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        UUID id = ids.equals("v7") ? UuidV7.next() : UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insert.setString(1, "urn:bank:" + id);
+        insert.setTimestamp(2, now);
+        insert.setTimestamp(3, now);
+        insert.setTimestamp(4, now);
+        return insert.executeUpdate();
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.serde;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.MediaType;
+import io.micronaut.serde.SerdeRegistry;
+import org.example.BenchmarkContexts;
+import org.example.domain.responses.ResponseListAccount;
+import org.example.domain.responses.SampleResponses;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode time of an account listing as JSON, CBOR and Smile through the body writers the server
+ * uses. JSON goes through the same writer with a plain {@link JsonFactory}, so only the format differs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final Argument<ResponseListAccount> TYPE = Argument.of(ResponseListAccount.class);
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"25", "1000"})
+    public int accounts;
+
+    private ApplicationContext context;
+    private JacksonFormatBodyWriter<ResponseListAccount> writer;
+    private MediaType mediaType;
+    private ResponseListAccount response;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start("jdbc", Map.of());
+        SerdeRegistry registry = context.getBean(SerdeRegistry.class);
+        switch (format) {
+            case "cbor" -> {
+                writer = new CborBodyWriter<>(registry);
+                mediaType = MediaType.of(BinaryMediaTypes.APPLICATION_CBOR);
+            }
+            case "smile" -> {
+                writer = new SmileBodyWriter<>(registry);
+                mediaType = MediaType.of(BinaryMediaTypes.APPLICATION_SMILE);
+            }
+            default -> {
+                writer = new JacksonFormatBodyWriter<>(registry, new JsonFactory()) { };
+                mediaType = MediaType.APPLICATION_JSON_TYPE;
+            }
+        }
+        response = SampleResponses.accounts(accounts);
+        out = new ByteArrayOutputStream(64 * 1024);
+        // JMH has no column for the encoded size, so it goes into the log next to the timings
+        System.out.printf("%n%d accounts as %s: %d bytes%n", accounts, format, encode());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int encode() {
+        out.reset();
+        writer.writeTo(TYPE, mediaType, response, null, out);
+        return out.size();
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.serde;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.serde.ObjectMapper;
+import org.example.BenchmarkContexts;
+import org.example.domain.responses.ResponseListAccount;
+import org.example.domain.responses.SampleResponses;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing an account listing with micronaut-serde, which the application uses, against
+ * reflection-based jackson-databind with the JavaTimeModule it used before. Both produce the same
+ * JSON, including {@code meta.requestDateTime} as decimal epoch seconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerdeBenchmark {
+
+    @Param({"25", "1000"})
+    public int accounts;
+
+    private ApplicationContext context;
+    private ObjectMapper serde;
+    private JsonMapper databind;
+    private ResponseListAccount response;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start("jdbc", Map.of());
+        serde = context.getBean(ObjectMapper.class);
+        databind = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        response = SampleResponses.accounts(accounts);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serde() throws IOException {
+        return serde.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] databind() throws IOException {
+        return databind.writeValueAsBytes(response);
+    }
+}
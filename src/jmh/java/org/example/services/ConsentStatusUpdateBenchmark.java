@@ -0,0 +1,145 @@
+package org.example.services;
+
+import io.micronaut.context.ApplicationContext;
+import org.example.BenchmarkContexts;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of consent status changes under contention: a row lock taken with SELECT ... FOR UPDATE
+ * before the UPDATE, against the single conditional UPDATE the service runs. Both sides use plain JDBC
+ * with the same statements, so only the concurrency control differs. Fewer hot rows means more
+ * writers per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ConsentStatusUpdateBenchmark {
+
+    private static final String[] STATUSES = {"AWAITING_AUTHORISATION", "AUTHORISED"};
+
+    private static final String LOCK = "SELECT status, expiration_date_time FROM consents WHERE id = ? FOR UPDATE";
+    private static final String UPDATE = "UPDATE consents SET status = ?, status_update_date_time = ?, version = version + 1 WHERE id = ?";
+    private static final String CONDITIONAL_UPDATE = "UPDATE consents SET status = ?, status_update_date_time = ?, version = version + 1 " +
+            "WHERE id = ? AND status <> 'REJECTED' AND expiration_date_time >= ?";
+
+    @Param({"1", "64"})
+    public int hotRows;
+
+    private String url;
+    private ApplicationContext context;
+    private String[] ids;
+
+    @Setup
+    public void setUp() throws SQLException {
+        // Writers wait on each other's row locks here, so the lock timeout must outlast the queue
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000";
+        context = BenchmarkContexts.start("jdbc", Map.of("datasources.default.url", url));
+        ids = new String[hotRows];
+        try (Connection connection = connect();
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO consents (id, client_id, status, consent_permission, " +
+                     "creation_date_time, status_update_date_time, expiration_date_time, version) VALUES (?, 'TPP', 'AUTHORISED', " +
+                     "'ACCOUNTS_READ', ?, ?, ?, 0)")) {
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < hotRows; i++) {
+                ids[i] = "urn:bank:" + UUID.randomUUID();
+                insert.setString(1, ids[i]);
+                insert.setTimestamp(2, Timestamp.valueOf(now));
+                insert.setTimestamp(3, Timestamp.valueOf(now));
+                insert.setTimestamp(4, Timestamp.valueOf(now.plusYears(1)));
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, "sa", "");
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+        Connection locking;
+        Connection autoCommit;
+        PreparedStatement lock;
+        PreparedStatement update;
+        PreparedStatement conditionalUpdate;
+
+        @Setup
+        public void open(ConsentStatusUpdateBenchmark benchmark) throws SQLException {
+            locking = benchmark.connect();
+            locking.setAutoCommit(false);
+            lock = locking.prepareStatement(LOCK);
+            update = locking.prepareStatement(UPDATE);
+            autoCommit = benchmark.connect();
+            conditionalUpdate = autoCommit.prepareStatement(CONDITIONAL_UPDATE);
+        }
+
+        @TearDown
+        public void close() throws SQLException {
+            locking.close();
+            autoCommit.close();
+        }
+    }
+
+    @Benchmark
+    public int lockThenUpdate(Session session) throws SQLException {
+        String id = nextId();
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            session.lock.setString(1, id);
+            try (ResultSet row = session.lock.executeQuery()) {
+                if (!row.next() || "REJECTED".equals(row.getString(1)) || row.getTimestamp(2).toLocalDateTime().isBefore(now)) {
+                    session.locking.rollback();
+                    return 0;
+                }
+            }
+            session.update.setString(1, nextStatus());
+            session.update.setTimestamp(2, Timestamp.valueOf(now));
+            session.update.setString(3, id);
+            int updated = session.update.executeUpdate();
+            session.locking.commit();
+            return updated;
+        } catch (SQLException e) {
+            session.locking.rollback();
+            throw e;
+        }
+    }
+
+    @Benchmark
+    public int conditionalUpdate(Session session) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        session.conditionalUpdate.setString(1, nextStatus());
+        session.conditionalUpdate.setTimestamp(2, Timestamp.valueOf(now));
+        session.conditionalUpdate.setString(3, nextId());
+        session.conditionalUpdate.setTimestamp(4, Timestamp.valueOf(now));
+        return session.conditionalUpdate.executeUpdate();
+    }
+
+    private String nextId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private static String nextStatus() {
+        return STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ids per second from {@link UuidV7} against {@link UUID#randomUUID()}, on one thread and with eight
+ * threads sharing the sequence (and, for v4, the shared {@code SecureRandom}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidV7Benchmark {
+
+    @Benchmark
+    @Threads(1)
+    public UUID v7() {
+        return UuidV7.next();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UUID v4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID v7Contended() {
+        return UuidV7.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID v4Contended() {
+        return UUID.randomUUID();
+    }
+}
@@ -4,12 +4,28 @@ import io.micronaut.core.annotation.TypeHint;
 import io.micronaut.runtime.Micronaut;
 
 import java.sql.Driver;
+import java.util.Locale;
+import java.util.Optional;
 
 @TypeHint({
         Driver.class,
 })
 public class Application {
     public static void main(String[] args) {
-        Micronaut.run(args);
+        Micronaut.build(args)
+                .environments(persistenceEnvironment())
+                .start();
     }
-}
\ No newline at end of file
+
+    /**
+     * The persistence backend runs as its own environment so that application-jpa.yml, and with it
+     * Hibernate, is only loaded when the JPA repositories are the ones in use.
+     */
+    public static String persistenceEnvironment() {
+        return Optional.ofNullable(System.getProperty("test-api.persistence"))
+                .or(() -> Optional.ofNullable(System.getenv("TEST_API_PERSISTENCE")))
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .filter(value -> value.equals("jdbc"))
+                .orElse("jpa");
+    }
+}
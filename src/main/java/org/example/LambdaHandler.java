@@ -0,0 +1,142 @@
+package org.example;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.ApplicationContextBuilder;
+import io.micronaut.function.aws.proxy.payload1.ApiGatewayProxyRequestEventFunction;
+import io.micronaut.json.JsonMapper;
+import org.example.domain.responses.ResponseListAccount;
+import org.example.repositories.AccountRepository;
+import org.example.repositories.ConsentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * API Gateway (payload 1.0) entry point for running the controllers on AWS Lambda. All singletons are
+ * created and the hot paths are exercised once while the function is initialising, so the first
+ * real invocation doesn't pay for the DataSource, Hibernate or the serializers.
+ */
+public class LambdaHandler extends ApiGatewayProxyRequestEventFunction {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LambdaHandler.class);
+
+    public LambdaHandler() {
+        super();
+        prime();
+    }
+
+    public LambdaHandler(ApplicationContext applicationContext) {
+        super(applicationContext);
+        prime();
+    }
+
+    @Override
+    protected ApplicationContextBuilder newApplicationContextBuilder() {
+        return super.newApplicationContextBuilder()
+                .environments(Application.persistenceEnvironment())
+                .eagerInitSingletons(true);
+    }
+
+    private void prime() {
+        long started = System.nanoTime();
+        try {
+            ApplicationContext context = getApplicationContext();
+            context.getBean(AccountRepository.class).count();
+            context.getBean(ConsentRepository.class).findById("urn:bank:prime");
+            context.getBean(JsonMapper.class).writeValueAsBytes(new ResponseListAccount());
+            // Routing, the bearer token parsing in SimpleAuthorisation, the consent lookup and error encoding
+            handleRequest(primingRequest(), new PrimingContext());
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Priming the Lambda handler failed, the first invocation will be slower", e);
+        }
+        LOG.info("Lambda handler primed in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static APIGatewayProxyRequestEvent primingRequest() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = encoder.encodeToString("{\"alg\": \"none\", \"typ\": \"JWT\"}".getBytes())
+                + "." + encoder.encodeToString("{\"scope\": \"accounts consent:urn:bank:prime\", \"client_id\": \"prime\"}".getBytes())
+                + ".";
+        return new APIGatewayProxyRequestEvent()
+                .withHttpMethod("GET")
+                .withPath("/test-api/account/v1/accounts")
+                .withHeaders(Map.of("Authorization", "Bearer " + token));
+    }
+
+    private static final class PrimingContext implements Context {
+        private static final LambdaLogger LOGGER = new LambdaLogger() {
+            @Override
+            public void log(String message) {
+                LOG.debug(message);
+            }
+
+            @Override
+            public void log(byte[] message) {
+                LOG.debug(new String(message));
+            }
+        };
+
+        @Override
+        public String getAwsRequestId() {
+            return "priming";
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return null;
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionName() {
+            return "priming";
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return null;
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return null;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return 0;
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return LOGGER;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.auth;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hand-written replacement for the {@code ^Bearer\s(?<token>.+)} regex and the scope split/stream
+ * pipelines. Both methods walk their input once and only allocate the values they return.
+ */
+final class BearerTokenParser {
+
+    private static final String BEARER = "Bearer";
+    private static final String CONSENT_SCOPE = "consent:urn:bank:";
+    private static final String CONSENT = "consent:";
+
+    private static final String[] SCOPES = {"accounts", "credit-card", "consents"};
+    private static final String[] ROLES = {"ACCOUNTS_READ", "CREDIT_CARD_READ", "CONSENTS_MANAGE"};
+
+    private BearerTokenParser() {
+    }
+
+    static String extractToken(String header) {
+        int length = header.length();
+        if (length <= BEARER.length() + 1 || !header.startsWith(BEARER) || !isWhitespace(header.charAt(BEARER.length()))) {
+            return null;
+        }
+        for (int i = BEARER.length() + 1; i < length; i++) {
+            if (isLineTerminator(header.charAt(i))) {
+                return null;
+            }
+        }
+        return header.substring(BEARER.length() + 1);
+    }
+
+    static CallerInfo resolve(String scopesValue, String clientId) {
+        List<String> roles = new ArrayList<>(SCOPES.length);
+        String consentId = null;
+        int length = scopesValue.length();
+        int start = 0;
+        while (start <= length) {
+            int end = scopesValue.indexOf(' ', start);
+            if (end < 0) {
+                end = length;
+            }
+            String role = roleFor(scopesValue, start, end);
+            if (role != null) {
+                roles.add(role);
+            }
+            if (consentId == null && isConsentScope(scopesValue, start, end)) {
+                consentId = consentIdFrom(scopesValue, start, end);
+            }
+            start = end + 1;
+        }
+        return new CallerInfo(clientId, consentId, Collections.unmodifiableList(roles));
+    }
+
+    private static String roleFor(String scopes, int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < SCOPES.length; i++) {
+            if (SCOPES[i].length() == length && scopes.regionMatches(start, SCOPES[i], 0, length)) {
+                return ROLES[i];
+            }
+        }
+        return null;
+    }
+
+    private static boolean isConsentScope(String scopes, int start, int end) {
+        return end - start >= CONSENT_SCOPE.length() && scopes.startsWith(CONSENT_SCOPE, start);
+    }
+
+    private static String consentIdFrom(String scopes, int start, int end) {
+        String consentId = scopes.substring(start + CONSENT.length(), end);
+        return consentId.contains(CONSENT) ? consentId.replace(CONSENT, "") : consentId;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.auth;
+
+import java.util.List;
+
+public record CallerInfo(String clientId, String consentId, List<String> roles) {
+}
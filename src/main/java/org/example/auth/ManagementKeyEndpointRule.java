@@ -0,0 +1,59 @@
+package org.example.auth;
+
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.management.endpoint.EndpointSensitivityProcessor;
+import io.micronaut.security.authentication.Authentication;
+import io.micronaut.security.rules.SecurityRuleResult;
+import io.micronaut.security.rules.SensitiveEndpointRule;
+import io.reactivex.Flowable;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Sensitive management endpoints expose other clients' payloads and internals. Bearer tokens here are
+ * unsigned and their scopes self-asserted, so no token can open them: the caller has to send the
+ * operator-configured {@code test-api.management.key} in the {@code X-Management-Key} header.
+ * With no key configured they stay closed to everyone.
+ */
+@Singleton
+@Replaces(SensitiveEndpointRule.class)
+public class ManagementKeyEndpointRule extends SensitiveEndpointRule {
+
+    public static final String HEADER = "X-Management-Key";
+
+    private final byte[] key;
+
+    public ManagementKeyEndpointRule(EndpointSensitivityProcessor endpointSensitivityProcessor,
+                                     @Value("${test-api.management.key:}") String key) {
+        super(endpointSensitivityProcessor);
+        this.key = key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    @NonNull
+    protected Publisher<SecurityRuleResult> checkSensitiveAnonymous(@NonNull HttpRequest<?> request,
+                                                                    @NonNull ExecutableMethod<?, ?> method) {
+        return Flowable.just(hasKey(request) ? SecurityRuleResult.ALLOWED : SecurityRuleResult.REJECTED);
+    }
+
+    @Override
+    @NonNull
+    protected Publisher<SecurityRuleResult> checkSensitiveAuthenticated(@NonNull HttpRequest<?> request,
+                                                                        @NonNull Authentication authentication,
+                                                                        @NonNull ExecutableMethod<?, ?> method) {
+        return Flowable.just(hasKey(request) ? SecurityRuleResult.ALLOWED : SecurityRuleResult.REJECTED);
+    }
+
+    private boolean hasKey(HttpRequest<?> request) {
+        String presented = request.getHeaders().get(HEADER);
+        // Constant-time compare so response timing doesn't leak how much of the key matched
+        return key.length > 0 && presented != null && MessageDigest.isEqual(key, presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
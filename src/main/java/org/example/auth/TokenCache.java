@@ -0,0 +1,60 @@
+package org.example.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Keeps the caller info resolved from a bearer token so repeat tokens skip parsing.
+ * Entries are keyed by a SHA-256 of the raw token, so raw tokens are never retained.
+ */
+@Singleton
+public class TokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, CallerInfo> cache;
+
+    public TokenCache(@Value("${test-api.auth.token-cache.enabled:true}") boolean enabled,
+                      @Value("${test-api.auth.token-cache.max-size:10000}") long maxSize,
+                      @Value("${test-api.auth.token-cache.ttl:5m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public CallerInfo get(String token, Function<String, CallerInfo> parser) {
+        if (!enabled) {
+            return parser.apply(token);
+        }
+        return cache.get(hash(token), key -> parser.apply(token));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package org.example.controllers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.context.annotation.Value;
-import io.micronaut.data.model.Pageable;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
+import org.example.domain.payloads.GetAccountsBatch;
 import org.example.domain.responses.ResponseListAccount;
+import org.example.logging.FlightRecorder;
+import org.example.logging.PayloadLogger;
+import org.example.serde.BinaryMediaTypes;
 import org.example.services.AccountService;
+import org.example.util.ETags;
+import org.example.util.PageCursor;
 import org.example.util.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +26,7 @@ import java.util.UUID;
 
 @RolesAllowed({"ACCOUNTS_READ"})
 @Controller("/test-api/account")
+@ExecuteOn("request-handler")
 public class AccountController {
     private static final Logger LOG = LoggerFactory.getLogger(AccountController.class);
     private final AccountService service;
@@ -28,33 +38,68 @@ public class AccountController {
     protected String appBaseUrl;
 
     @Inject
-    protected ObjectMapper mapper;
+    protected PayloadLogger payloadLogger;
 
     AccountController(AccountService service) {
         this.service = service;
     }
 
     @Get("/v1/accounts")
-    public Object getAccounts(HttpRequest<?> request) {
-        LOG.info("Looking up all accounts}");
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE})
+    public Object getAccounts(HttpRequest<?> request,
+                              @Nullable @QueryValue("page-size") Integer pageSize,
+                              @Nullable @QueryValue("cursor") String cursor) {
+        LOG.debug("Looking up all accounts}");
         var consentId = Utils.getRequestConsentId(request);
-        var pageableResponse = service.getAccounts(Pageable.from(0), consentId);
-        var response = new ResponseListAccount().data(pageableResponse.getContent());
-        Utils.decorateResponse(response::setLinks, response::setMeta, appBaseUrl + request.getPath(), pageableResponse.getTotalSize(), maxPageSize);
-        LOG.info("Returning all accounts found");
-        Utils.logObject(mapper, response);
-        return response;
+        int size = Utils.resolvePageSize(pageSize, maxPageSize);
+        var page = service.getAccounts(cursor == null ? null : PageCursor.decode(cursor), size, consentId);
+        var response = new ResponseListAccount().data(page.content());
+        var links = Utils.pageLinks(appBaseUrl + request.getPath(), request.getUri().getRawQuery(), size, page.prev(), page.next());
+        Utils.decorateResponse(response, links, page.totalRecords(), size);
+        LOG.debug("Returning all accounts found");
+        payloadLogger.log(request, response);
+        return HttpResponse.ok(response).header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
     }
 
     @Get("/v1/account/{accountId}")
-    public Object getAccountById(@PathVariable("accountId") String accountId, HttpRequest<?> request) {
-        LOG.info("Looking up account {}", accountId);
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE})
+    public HttpResponse<?> getAccountById(@PathVariable("accountId") String accountId, HttpRequest<?> request) {
+        LOG.debug("Looking up account {}", accountId);
         var consentId = Utils.getRequestConsentId(request);
-        var consentResponse = service.getAccount(UUID.fromString(accountId), consentId);
-        Utils.decorateResponse(consentResponse::setLinks, consentResponse::setMeta, appBaseUrl + request.getPath() + "/" + accountId, 1, maxPageSize);
-        LOG.info("External client making call - return partial response");
-        Utils.logObject(mapper, consentResponse);
-        return consentResponse;
+        var id = UUID.fromString(accountId);
+        var representation = BinaryMediaTypes.negotiate(request);
+        // The version-only lookup is worth it for conditional requests; otherwise the tag comes from the row being served
+        var ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            var etag = ETags.forRepresentation(service.getAccountETag(id), representation);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                LOG.debug("Account {} not modified", accountId);
+                return HttpResponse.notModified().header(HttpHeaders.ETAG, etag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+        var account = service.getAccount(id, consentId);
+        var consentResponse = account.body();
+        Utils.decorateResponse(consentResponse, appBaseUrl + request.getPath() + "/" + accountId, 1, maxPageSize);
+        LOG.debug("External client making call - return partial response");
+        payloadLogger.log(request, consentResponse);
+        return HttpResponse.ok(consentResponse)
+                .header(HttpHeaders.ETAG, ETags.forRepresentation(account.etag(), representation))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+
+    @Post("/v1/accounts/batch")
+    public Object getAccountsBatch(@Body GetAccountsBatch body, HttpRequest<?> request) {
+        FlightRecorder.attachRequestBody(request, body);
+        var consentId = Utils.getRequestConsentId(request);
+        var accountIds = body.getData() == null ? null : body.getData().getAccountIds();
+        LOG.debug("Looking up a batch of {} accounts", accountIds == null ? 0 : accountIds.size());
+        var response = service.getAccountsBatch(accountIds, consentId);
+        // Everything found comes back in this one response, so it is a single page of that many records
+        int found = response.getData().size();
+        Utils.decorateResponse(response, appBaseUrl + request.getPath(), found, found);
+        LOG.debug("Returning {} accounts, {} not found", response.getData().size(), response.getNotFound().size());
+        payloadLogger.log(request, response);
+        return response;
     }
 
 }
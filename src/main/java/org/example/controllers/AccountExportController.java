@@ -0,0 +1,37 @@
+package org.example.controllers;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.reactivex.Flowable;
+import jakarta.annotation.security.RolesAllowed;
+import org.example.services.AccountExportService;
+import org.example.services.AccountService;
+import org.example.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@RolesAllowed({"ACCOUNTS_READ"})
+@Controller("/test-api/account")
+@ExecuteOn("request-handler")
+public class AccountExportController {
+    private static final Logger LOG = LoggerFactory.getLogger(AccountExportController.class);
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final AccountService accountService;
+    private final AccountExportService exportService;
+
+    AccountExportController(AccountService accountService, AccountExportService exportService) {
+        this.accountService = accountService;
+        this.exportService = exportService;
+    }
+
+    @Get(value = "/v1/accounts/export", produces = APPLICATION_NDJSON)
+    public Flowable<byte[]> exportAccounts(HttpRequest<?> request) {
+        LOG.debug("Exporting all accounts");
+        var consentId = Utils.getRequestConsentId(request);
+        accountService.validateAccountsConsent(consentId);
+        return exportService.exportAccounts();
+    }
+}
@@ -1,15 +1,25 @@
 package org.example.controllers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import jakarta.inject.Inject;
 import org.example.domain.payloads.CreateConsent;
 import org.example.domain.payloads.UpdateConsent;
 import org.example.domain.responses.ResponseConsent;
+import org.example.domain.responses.ResponseListConsent;
+import org.example.logging.FlightRecorder;
+import org.example.logging.PayloadLogger;
+import org.example.serde.BinaryMediaTypes;
 import org.example.services.ConsentService;
+import org.example.util.ETags;
+import org.example.util.PageCursor;
 import org.example.util.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,8 +27,11 @@ import org.slf4j.LoggerFactory;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.validation.Valid;
 
+import java.time.OffsetDateTime;
+
 @RolesAllowed({"CONSENTS_MANAGE"})
 @Controller("/test-api/consents")
+@ExecuteOn("request-handler")
 public class ConsentController {
     private static final Logger LOG = LoggerFactory.getLogger(ConsentController.class);
     private final ConsentService service;
@@ -30,7 +43,7 @@ public class ConsentController {
     protected String appBaseUrl;
 
     @Inject
-    protected ObjectMapper mapper;
+    protected PayloadLogger payloadLogger;
 
     ConsentController(ConsentService service) {
         this.service = service;
@@ -40,33 +53,67 @@ public class ConsentController {
     @Status(HttpStatus.CREATED)
     public ResponseConsent createConsentV2(@Body @Valid CreateConsent body, HttpRequest<?> request) {
         var clientId = Utils.getRequestClientId(request);
-        LOG.info("Creating new consent for client {}", clientId);
-        Utils.logObject(mapper, body);
+        LOG.debug("Creating new consent for client {}", clientId);
+        FlightRecorder.attachRequestBody(request, body);
+        payloadLogger.log(request, body);
         ResponseConsent consentResponse = service.createConsent(clientId, body);
         String consentId = consentResponse.getData().getConsentId();
-        Utils.decorateResponse(consentResponse::setLinks, consentResponse::setMeta, appBaseUrl + request.getPath() + "/" + consentId, 1, maxPageSize);
-        LOG.info("Consent created");
-        Utils.logObject(mapper, consentResponse);
+        Utils.decorateResponse(consentResponse, appBaseUrl + request.getPath() + "/" + consentId, 1, maxPageSize);
+        LOG.debug("Consent created");
+        payloadLogger.log(request, consentResponse);
         return consentResponse;
     }
 
+    @Get("/v1/consents")
+    public Object listConsents(HttpRequest<?> request,
+                               @Nullable @QueryValue("status") String status,
+                               @Nullable @QueryValue("expires-after") OffsetDateTime expiresAfter,
+                               @Nullable @QueryValue("expires-before") OffsetDateTime expiresBefore,
+                               @Nullable @QueryValue("page-size") Integer pageSize,
+                               @Nullable @QueryValue("cursor") String cursor) {
+        var clientId = Utils.getRequestClientId(request);
+        LOG.debug("Listing consents for client {}", clientId);
+        int size = Utils.resolvePageSize(pageSize, maxPageSize);
+        var page = service.listConsents(clientId, status, expiresAfter, expiresBefore, cursor == null ? null : PageCursor.decode(cursor), size);
+        var response = new ResponseListConsent().data(page.content());
+        var links = Utils.pageLinks(appBaseUrl + request.getPath(), request.getUri().getRawQuery(), size, page.prev(), page.next());
+        Utils.decorateResponse(response, links, page.totalRecords(), size);
+        LOG.debug("Returning {} consents", response.getData().size());
+        payloadLogger.log(request, response);
+        return response;
+    }
+
     @Get("/v1/consents/{consentId}")
-    public Object getConsent(@PathVariable("consentId") String consentId, HttpRequest<?> request) {
-        LOG.info("Looking up consent {}", consentId);
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaTypes.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE})
+    public HttpResponse<?> getConsent(@PathVariable("consentId") String consentId, HttpRequest<?> request) {
+        LOG.debug("Looking up consent {}", consentId);
         var clientId = Utils.getRequestClientId(request);
-        var consentResponse = service.getConsent(consentId, clientId);
-        Utils.decorateResponse(consentResponse::setLinks, consentResponse::setMeta, appBaseUrl + request.getPath() + "/" + consentId, 1, maxPageSize);
-        LOG.info("Returning consent data");
-        Utils.logObject(mapper, consentResponse);
-        return consentResponse;
+        var representation = BinaryMediaTypes.negotiate(request);
+        var ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            var etag = ETags.forRepresentation(service.getConsentETag(consentId, clientId), representation);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                LOG.debug("Consent {} not modified", consentId);
+                return HttpResponse.notModified().header(HttpHeaders.ETAG, etag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+        var consent = service.getConsent(consentId, clientId);
+        var consentResponse = consent.body();
+        Utils.decorateResponse(consentResponse, appBaseUrl + request.getPath() + "/" + consentId, 1, maxPageSize);
+        LOG.debug("Returning consent data");
+        payloadLogger.log(request, consentResponse);
+        return HttpResponse.ok(consentResponse)
+                .header(HttpHeaders.ETAG, ETags.forRepresentation(consent.etag(), representation))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
     }
 
     @Put("/v1/consents/{consentId}")
-    public ResponseConsent putConsent(@PathVariable("consentId") String consentId, @Body @Valid UpdateConsent request) {
-        LOG.info("Updating consent {}", consentId);
-        Utils.logObject(mapper, request);
-        var response = service.updateConsent(consentId, request);
-        Utils.logObject(mapper, response);
+    public ResponseConsent putConsent(@PathVariable("consentId") String consentId, @Body @Valid UpdateConsent body, HttpRequest<?> request) {
+        LOG.debug("Updating consent {}", consentId);
+        FlightRecorder.attachRequestBody(request, body);
+        payloadLogger.log(request, body);
+        var response = service.updateConsent(consentId, body);
+        payloadLogger.log(request, response);
         return response;
     }
 }
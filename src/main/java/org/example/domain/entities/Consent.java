@@ -5,7 +5,7 @@ import lombok.Data;
 import org.example.domain.payloads.CreateConsent;
 import org.example.domain.responses.ResponseConsent;
 import org.example.domain.responses.ResponseConsentData;
-import org.hibernate.annotations.GenericGenerator;
+import org.example.util.UuidV7;
 
 import java.time.LocalDateTime;
 import java.util.Date;
@@ -16,8 +16,6 @@ import java.util.Optional;
 @Table(name = "consents")
 public class Consent {
     @Id
-    @GenericGenerator(name = "string_based_custom_sequence", strategy = "org.example.domain.entities.CustomUserIdGenerator")
-    @GeneratedValue(generator = "string_based_custom_sequence")
     private String id;
 
     @Column(name = "client_id")
@@ -40,8 +38,13 @@ public class Consent {
     @Convert(converter = ConsentPermissionsConverter.class)
     private EnumConsentPermissions consentPermissions;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     public static Consent fromRequest(CreateConsent body, String clientId) {
         var consentEntity = new Consent();
+        consentEntity.setId("urn:bank:" + UuidV7.next());
         consentEntity.setClientId(clientId);
         consentEntity.setExpirationDateTime(body.getData().getExpirationDateTime().toLocalDateTime());
         consentEntity.setConsentPermissions(EnumConsentPermissions.valueOf(body.getData().getPermissions()));
@@ -52,13 +55,17 @@ public class Consent {
     }
 
     public ResponseConsent toResponseConsent() {
-        return new ResponseConsent().data(new ResponseConsentData()
+        return new ResponseConsent().data(toResponseConsentData());
+    }
+
+    public ResponseConsentData toResponseConsentData() {
+        return new ResponseConsentData()
                 .consentId(id)
                 .clientId(clientId)
                 .status(status.name())
                 .permission(consentPermissions.name())
                 .expirationDateTime(expirationDateTime)
-                .creationDateTime(creationDateTime));
+                .creationDateTime(creationDateTime);
     }
 
     @Converter
@@ -1,15 +0,0 @@
-package org.example.domain.entities;
-
-import org.hibernate.HibernateException;
-import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.id.IdentifierGenerator;
-
-import java.io.Serializable;
-import java.util.UUID;
-
-public class CustomUserIdGenerator implements IdentifierGenerator {
-    @Override
-    public Serializable generate(SharedSessionContractImplementor sharedSessionContractImplementor, Object o) throws HibernateException {
-        return "urn:bank:"+ UUID.randomUUID();
-    }
-}
@@ -0,0 +1,16 @@
+package org.example.domain.payloads;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Serdeable
+public class GetAccountsBatch {
+    @JsonProperty("data")
+    private GetAccountsBatchData data = null;
+}
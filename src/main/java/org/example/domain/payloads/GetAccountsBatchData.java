@@ -0,0 +1,18 @@
+package org.example.domain.payloads;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Serdeable
+public class GetAccountsBatchData {
+    @JsonProperty("accountIds")
+    private List<String> accountIds = null;
+}
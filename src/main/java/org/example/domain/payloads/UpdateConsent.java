@@ -1,7 +1,7 @@
 package org.example.domain.payloads;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import io.micronaut.core.annotation.Introspected;
+import io.micronaut.serde.annotation.Serdeable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Introspected
+@Serdeable
 public class UpdateConsent {
     @JsonProperty("data")
     private UpdateConsentData data = null;
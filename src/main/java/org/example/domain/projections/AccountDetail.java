@@ -0,0 +1,24 @@
+package org.example.domain.projections;
+
+import io.micronaut.core.annotation.Introspected;
+import org.example.domain.responses.ResponseAccount;
+import org.example.domain.responses.ResponseAccountData;
+import org.example.util.ETags;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Introspected
+public record AccountDetail(UUID id, String bank, String accountNumber, LocalDateTime statusUpdateDateTime) {
+
+    public ResponseAccount toResponseAccount() {
+        return new ResponseAccount().data(new ResponseAccountData()
+                .id(id.toString())
+                .accountNumber(accountNumber)
+                .bank(bank));
+    }
+
+    public String etag() {
+        return ETags.of(id, statusUpdateDateTime);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.domain.projections;
+
+import io.micronaut.core.annotation.Introspected;
+import org.example.domain.responses.ResponseAccountData;
+
+import java.util.UUID;
+
+@Introspected
+public record AccountSummary(UUID id, String bank, String accountNumber) {
+
+    public ResponseAccountData toResponseAccountData() {
+        return new ResponseAccountData()
+                .id(id.toString())
+                .accountNumber(accountNumber)
+                .bank(bank);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.domain.projections;
+
+import io.micronaut.core.annotation.Introspected;
+import org.example.util.ETags;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Introspected
+public record AccountVersion(UUID id, LocalDateTime statusUpdateDateTime) {
+
+    public String etag() {
+        return ETags.of(id, statusUpdateDateTime);
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.domain.projections;
+
+import io.micronaut.core.annotation.Introspected;
+import org.example.domain.entities.EnumConsentStatus;
+
+import java.time.LocalDateTime;
+
+@Introspected
+public record ConsentState(String id, EnumConsentStatus status, LocalDateTime expirationDateTime) {
+}
@@ -0,0 +1,12 @@
+package org.example.domain.projections;
+
+import io.micronaut.core.annotation.Introspected;
+import org.example.util.ETags;
+
+@Introspected
+public record ConsentVersion(String id, String clientId, Long version) {
+
+    public String etag() {
+        return ETags.of(version);
+    }
+}
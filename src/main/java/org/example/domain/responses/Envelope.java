@@ -0,0 +1,10 @@
+package org.example.domain.responses;
+
+/**
+ * Responses that carry the standard {@code links} and {@code meta} blocks.
+ */
+public interface Envelope {
+    void setLinks(Links links);
+
+    void setMeta(Meta meta);
+}
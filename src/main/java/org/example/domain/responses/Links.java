@@ -1,9 +1,11 @@
 package org.example.domain.responses;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
 import lombok.Data;
 
 @Data
+@Serdeable
 public class Links {
     @JsonProperty("self")
     private String self = null;
@@ -20,4 +22,24 @@ public class Links {
         this.self = self;
         return this;
     }
+
+    public Links first(String first) {
+        this.first = first;
+        return this;
+    }
+
+    public Links prev(String prev) {
+        this.prev = prev;
+        return this;
+    }
+
+    public Links next(String next) {
+        this.next = next;
+        return this;
+    }
+
+    public Links last(String last) {
+        this.last = last;
+        return this;
+    }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package org.example.domain.responses;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
 import lombok.Data;
 
 import java.time.OffsetDateTime;
 
 @Data
+@Serdeable
 public class Meta {
     @JsonProperty("totalRecords")
     private Long totalRecords = null;
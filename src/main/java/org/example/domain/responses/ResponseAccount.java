@@ -1,10 +1,12 @@
 package org.example.domain.responses;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
 import lombok.Data;
 
 @Data
-public class ResponseAccount {
+@Serdeable
+public class ResponseAccount implements Envelope {
     @JsonProperty("data")
     private ResponseAccountData data = null;
     @JsonProperty("links")
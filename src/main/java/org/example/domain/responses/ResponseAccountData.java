@@ -1,9 +1,11 @@
 package org.example.domain.responses;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
 import lombok.Data;
 
 @Data
+@Serdeable
 public class ResponseAccountData {
     @JsonProperty("id")
     private String id;
@@ -0,0 +1,32 @@
+package org.example.domain.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Serdeable
+public class ResponseBatchAccount implements Envelope {
+    @JsonProperty("data")
+    private List<ResponseAccountData> data = new ArrayList<>();
+    @JsonProperty("notFound")
+    private List<String> notFound = new ArrayList<>();
+    @JsonProperty("links")
+    private Links links = null;
+    @JsonProperty("meta")
+    private Meta meta = null;
+
+    public ResponseBatchAccount data(List<ResponseAccountData> data) {
+        this.data = data;
+        return this;
+    }
+
+    public ResponseBatchAccount notFound(List<String> notFound) {
+        this.notFound = notFound;
+        return this;
+    }
+
+}
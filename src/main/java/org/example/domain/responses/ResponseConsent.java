@@ -1,10 +1,12 @@
 package org.example.domain.responses;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
 import lombok.Data;
 
 @Data
-public class ResponseConsent {
+@Serdeable
+public class ResponseConsent implements Envelope {
     @JsonProperty("data")
     private ResponseConsentData data = null;
     @JsonProperty("links")
@@ -1,13 +1,17 @@
 package org.example.domain.responses;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
 import lombok.Data;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Data
+@Serdeable
 public class ResponseConsentData {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
     @JsonProperty("consentId")
     private String consentId;
 
@@ -51,17 +55,17 @@ public class ResponseConsentData {
     }
 
     public ResponseConsentData expirationDateTime(LocalDateTime expirationDateTime) {
-        this.expirationDateTime = expirationDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"));
+        this.expirationDateTime = expirationDateTime.format(DATE_TIME_FORMAT);
         return this;
     }
 
     public ResponseConsentData creationDateTime(LocalDateTime creationDateTime) {
-        this.creationDateTime = creationDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"));
+        this.creationDateTime = creationDateTime.format(DATE_TIME_FORMAT);
         return this;
     }
 
     public ResponseConsentData statusUpdateDateTime(LocalDateTime statusUpdateDateTime) {
-        this.statusUpdateDateTime = statusUpdateDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"));
+        this.statusUpdateDateTime = statusUpdateDateTime.format(DATE_TIME_FORMAT);
         return this;
     }
 
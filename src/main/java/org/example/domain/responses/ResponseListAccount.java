@@ -1,13 +1,15 @@
 package org.example.domain.responses;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
 import lombok.Data;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Data
-public class ResponseListAccount {
+@Serdeable
+public class ResponseListAccount implements Envelope {
     @JsonProperty("data")
     private List<ResponseAccountData> data = new ArrayList<>();
     @JsonProperty("links")
@@ -0,0 +1,25 @@
+package org.example.domain.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.serde.annotation.Serdeable;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Serdeable
+public class ResponseListConsent implements Envelope {
+    @JsonProperty("data")
+    private List<ResponseConsentData> data = new ArrayList<>();
+    @JsonProperty("links")
+    private Links links = null;
+    @JsonProperty("meta")
+    private Meta meta = null;
+
+    public ResponseListConsent data(List<ResponseConsentData> data) {
+        this.data.addAll(data);
+        return this;
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.example.execution;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import jakarta.inject.Singleton;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The permits behind {@link DatabaseBulkhead}: one per connection request paths may hold at once. It is
+ * sized a little below the connection pool so the sweeper, the count provider and the authorisation
+ * cache, which run outside it, still find a free connection. Waiting for a permit happens on a fair
+ * {@link Semaphore}, where a virtual thread unmounts from its carrier, rather than in Hikari's queue.
+ * <p>
+ * That does not make the database calls themselves pinning-safe: once a thread holds a permit, Hibernate,
+ * Hikari and the driver still run synchronized code around their I/O, which pins the carrier on the JDKs
+ * this runs on. With {@code cap-at-carriers} (set by the virtual-threads environment) the permits are
+ * capped at the carrier parallelism, so pinned calls can't outnumber carriers; the remaining cost is
+ * that while every permit is busy in the driver, other virtual threads wait for a carrier.
+ */
+@Singleton
+public class ConnectionPermits {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPermits.class);
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+
+    public ConnectionPermits(@Value("${test-api.db-bulkhead.max-concurrent:8}") int maxConcurrent,
+                             @Value("${test-api.db-bulkhead.acquire-timeout:2s}") Duration acquireTimeout,
+                             @Value("${test-api.db-bulkhead.cap-at-carriers:false}") boolean capAtCarriers) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("test-api.db-bulkhead.max-concurrent must be positive, was " + maxConcurrent);
+        }
+        if (capAtCarriers && maxConcurrent > carrierParallelism()) {
+            LOG.info("Capping test-api.db-bulkhead.max-concurrent {} at the {} virtual thread carriers", maxConcurrent, carrierParallelism());
+            maxConcurrent = carrierParallelism();
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    /**
+     * Waits up to the acquire timeout for a permit, answering 503 if none frees up.
+     */
+    public void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent requests, please retry");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Request interrupted while waiting for the database");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    // Same default the JDK's virtual thread scheduler uses
+    static int carrierParallelism() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+                "maxConcurrent", maxConcurrent,
+                "available", permits.availablePermits(),
+                "queued", permits.getQueueLength());
+    }
+}
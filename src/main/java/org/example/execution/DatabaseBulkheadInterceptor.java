@@ -0,0 +1,37 @@
+package org.example.execution;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import jakarta.inject.Singleton;
+
+/**
+ * Holds one of the {@link ConnectionPermits} for the duration of the call, taken before the
+ * transaction (and with it a connection) is opened.
+ */
+@Singleton
+@InterceptorBean(DatabaseBulkhead.class)
+public class DatabaseBulkheadInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final ConnectionPermits permits;
+
+    public DatabaseBulkheadInterceptor(ConnectionPermits permits) {
+        this.permits = permits;
+    }
+
+    @Override
+    public int getOrder() {
+        return InterceptPhase.TRANSACTION.getPosition() - 1;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        permits.acquire();
+        try {
+            return context.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.execution;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+
+/**
+ * Fails startup with a readable message when the virtual-threads environment is switched on for a
+ * runtime that has no virtual threads, instead of an executor error on the first request.
+ */
+@Context
+@Requires(env = "virtual-threads")
+public class VirtualThreadsCheck {
+
+    static final int MINIMUM_FEATURE_VERSION = 21;
+
+    VirtualThreadsCheck() {
+        int feature = Runtime.version().feature();
+        if (feature < MINIMUM_FEATURE_VERSION) {
+            throw new IllegalStateException("The virtual-threads environment needs Java " + MINIMUM_FEATURE_VERSION
+                    + " or later, this runtime is Java " + feature);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.logging;
+
+import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the single INFO access line per request and hands the exchange to the {@link FlightRecorder}.
+ */
+@ServerFilter("/test-api/**")
+public class AccessLogFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccessLogFilter.class);
+    private static final String STARTED = "accessLog.started";
+
+    private final FlightRecorder flightRecorder;
+
+    AccessLogFilter(FlightRecorder flightRecorder) {
+        this.flightRecorder = flightRecorder;
+    }
+
+    @RequestFilter
+    public void start(HttpRequest<?> request) {
+        request.setAttribute(STARTED, System.nanoTime());
+    }
+
+    @ResponseFilter
+    public void finish(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        long started = request.getAttribute(STARTED, Long.class).orElseGet(System::nanoTime);
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        String clientId = request.getAttribute("clientId").map(Object::toString).orElse(null);
+        int status = response.code();
+        LOG.info("{} {} {} {}ms client={}", request.getMethodName(), request.getPath(), status, durationMillis, clientId);
+        if (!flightRecorder.isEnabled()) {
+            return;
+        }
+
+        // Streamed bodies are not kept: they are consumed by the time a dump would serialize them
+        Object responseBody = response.getBody().filter(body -> !(body instanceof Publisher)).orElse(null);
+        // Requests that matched no route share one ring, so arbitrary paths can't create rings without bound
+        String route = request.getAttribute(HttpAttributes.URI_TEMPLATE, String.class)
+                .map(template -> request.getMethodName() + " " + template)
+                .orElse(FlightRecorder.UNMATCHED);
+        flightRecorder.record(route, new FlightRecorder.Exchange(Instant.now(), request.getMethodName(), request.getPath(), clientId,
+                status, durationMillis, request.getAttribute(FlightRecorder.REQUEST_BODY).orElse(null), responseBody));
+    }
+}
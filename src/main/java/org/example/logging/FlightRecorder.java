@@ -0,0 +1,104 @@
+package org.example.logging;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.serde.annotation.Serdeable;
+import jakarta.inject.Singleton;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the last {@code capacity} request/response pairs of every route in memory so they can be
+ * dumped through the flightrecorder endpoint when something needs investigating. Bodies are kept
+ * as the objects the controllers handled and are only serialized when dumped.
+ */
+@Singleton
+public class FlightRecorder {
+
+    public static final String REQUEST_BODY = "flightRecorder.requestBody";
+    public static final String UNMATCHED = "UNMATCHED";
+
+    private final boolean enabled;
+    private final int capacity;
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+    private volatile String pinnedClientId;
+
+    public FlightRecorder(@Value("${test-api.flight-recorder.enabled:false}") boolean enabled,
+                          @Value("${test-api.flight-recorder.capacity:50}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("test-api.flight-recorder.capacity must be positive, was " + capacity);
+        }
+        this.enabled = enabled;
+        this.capacity = capacity;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void attachRequestBody(HttpRequest<?> request, Object body) {
+        request.setAttribute(REQUEST_BODY, body);
+    }
+
+    public void record(String route, Exchange exchange) {
+        if (!enabled) {
+            return;
+        }
+        String pinned = pinnedClientId;
+        if (pinned != null && !pinned.equals(exchange.clientId())) {
+            return;
+        }
+        rings.computeIfAbsent(route, r -> new Ring(capacity)).add(exchange);
+    }
+
+    public Map<String, List<Exchange>> dump() {
+        Map<String, List<Exchange>> dump = new TreeMap<>();
+        rings.forEach((route, ring) -> dump.put(route, ring.snapshot()));
+        return dump;
+    }
+
+    public void pin(String clientId) {
+        pinnedClientId = clientId == null || clientId.isBlank() ? null : clientId;
+    }
+
+    public String pinnedClientId() {
+        return pinnedClientId;
+    }
+
+    @Serdeable
+    public record Exchange(Instant timestamp, String method, String path, String clientId, int status,
+                           long durationMillis, Object requestBody, Object responseBody) {
+    }
+
+    private static final class Ring {
+        private final AtomicReferenceArray<Exchange> slots;
+        private final AtomicLong next = new AtomicLong();
+
+        Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        void add(Exchange exchange) {
+            slots.set((int) (next.getAndIncrement() % slots.length()), exchange);
+        }
+
+        List<Exchange> snapshot() {
+            long end = next.get();
+            List<Exchange> exchanges = new ArrayList<>(slots.length());
+            for (long i = Math.max(0, end - slots.length()); i < end; i++) {
+                Exchange exchange = slots.get((int) (i % slots.length()));
+                if (exchange != null) {
+                    exchanges.add(exchange);
+                }
+            }
+            return exchanges;
+        }
+    }
+}
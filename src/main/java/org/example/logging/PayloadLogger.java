@@ -0,0 +1,67 @@
+package org.example.logging;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+import static net.logstash.logback.argument.StructuredArguments.raw;
+
+/**
+ * Logs request and response payloads as structured JSON for a sample of requests. The sampling
+ * decision is taken once per request, so a sampled request gets both its body and its response
+ * logged; nothing is serialized for requests that are not sampled.
+ */
+@Singleton
+public class PayloadLogger {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PayloadLogger.class);
+    private static final String SAMPLED = "payloadLogger.sampled";
+
+    private final JsonMapper mapper;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final Set<String> clientIds;
+
+    public PayloadLogger(JsonMapper mapper,
+                         @Value("${test-api.payload-logging.enabled:false}") boolean enabled,
+                         @Value("${test-api.payload-logging.sample-rate:1.0}") double sampleRate,
+                         @Value("${test-api.payload-logging.client-ids:}") List<String> clientIds) {
+        this.mapper = mapper;
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.clientIds = clientIds.stream().filter(id -> !id.isBlank()).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public void log(HttpRequest<?> request, Object payload) {
+        if (!enabled || !LOG.isInfoEnabled() || !sampled(request)) {
+            return;
+        }
+        String type = payload.getClass().getSimpleName();
+        try {
+            LOG.info("{} {} {}", kv("route", request.getPath()), kv("type", type), raw("payload", new String(mapper.writeValueAsBytes(payload), StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            LOG.error("{} - Error writing object as JSON: ", type, e);
+        }
+    }
+
+    private boolean sampled(HttpRequest<?> request) {
+        return request.getAttribute(SAMPLED, Boolean.class).orElseGet(() -> {
+            String clientId = request.getAttribute("clientId").map(Object::toString).orElse(null);
+            boolean sampled = (clientIds.isEmpty() || clientIds.contains(clientId))
+                    && ThreadLocalRandom.current().nextDouble() < sampleRate;
+            request.setAttribute(SAMPLED, sampled);
+            return sampled;
+        });
+    }
+}
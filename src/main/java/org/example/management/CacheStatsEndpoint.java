@@ -0,0 +1,39 @@
+package org.example.management;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import org.example.auth.TokenCache;
+import org.example.services.ConsentAuthorisationCache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    private final TokenCache tokenCache;
+    private final ConsentAuthorisationCache consentAuthorisationCache;
+
+    CacheStatsEndpoint(TokenCache tokenCache, ConsentAuthorisationCache consentAuthorisationCache) {
+        this.tokenCache = tokenCache;
+        this.consentAuthorisationCache = consentAuthorisationCache;
+    }
+
+    @Read
+    public Map<String, Map<String, Long>> stats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        stats.put("auth-tokens", describe(tokenCache.stats(), tokenCache.size()));
+        stats.put("consent-authorisations", describe(consentAuthorisationCache.stats(), consentAuthorisationCache.size()));
+        return stats;
+    }
+
+    private static Map<String, Long> describe(CacheStats stats, long size) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put("size", size);
+        values.put("hits", stats.hitCount());
+        values.put("misses", stats.missCount());
+        values.put("evictions", stats.evictionCount());
+        return values;
+    }
+}
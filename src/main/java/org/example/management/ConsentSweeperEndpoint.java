@@ -0,0 +1,24 @@
+package org.example.management;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import org.example.services.ExpiredConsentSweeper;
+
+import java.util.Map;
+
+@Endpoint(id = "consentsweeper")
+@Requires(beans = ExpiredConsentSweeper.class)
+public class ConsentSweeperEndpoint {
+
+    private final ExpiredConsentSweeper sweeper;
+
+    ConsentSweeperEndpoint(ExpiredConsentSweeper sweeper) {
+        this.sweeper = sweeper;
+    }
+
+    @Read
+    public Map<String, Long> stats() {
+        return sweeper.stats();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.management;
+
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import org.example.execution.ConnectionPermits;
+
+import java.util.Map;
+
+@Endpoint(id = "dbbulkhead")
+public class DatabaseBulkheadEndpoint {
+
+    private final ConnectionPermits permits;
+
+    DatabaseBulkheadEndpoint(ConnectionPermits permits) {
+        this.permits = permits;
+    }
+
+    @Read
+    public Map<String, Object> stats() {
+        return permits.stats();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.management;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import io.micronaut.management.endpoint.annotation.Write;
+import org.example.logging.FlightRecorder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private final FlightRecorder flightRecorder;
+
+    FlightRecorderEndpoint(FlightRecorder flightRecorder) {
+        this.flightRecorder = flightRecorder;
+    }
+
+    @Read
+    public Map<String, List<FlightRecorder.Exchange>> dump() {
+        return flightRecorder.dump();
+    }
+
+    @Write
+    public Map<String, String> pin(@Nullable String clientId) {
+        flightRecorder.pin(clientId);
+        return Collections.singletonMap("pinnedClientId", flightRecorder.pinnedClientId());
+    }
+}
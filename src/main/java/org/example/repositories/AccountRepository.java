@@ -1,14 +1,34 @@
 package org.example.repositories;
 
-import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.repository.PageableRepository;
 import jakarta.validation.constraints.NotNull;
 import org.example.domain.entities.Account;
+import org.example.domain.projections.AccountDetail;
+import org.example.domain.projections.AccountSummary;
+import org.example.domain.projections.AccountVersion;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-@Repository
+/**
+ * Account queries shared by both persistence backends, see {@link JpaAccountRepository} and
+ * {@link JdbcAccountRepository}.
+ */
 public interface AccountRepository extends PageableRepository<Account, UUID> {
     Optional<Account> findById(@NotNull UUID id);
+
+    Optional<AccountDetail> searchById(@NotNull UUID id);
+
+    Optional<AccountVersion> queryById(@NotNull UUID id);
+
+    List<AccountSummary> list(Pageable pageable);
+
+    List<AccountSummary> findByIdGreaterThan(@NotNull UUID id, Pageable pageable);
+
+    List<AccountSummary> findByIdLessThan(@NotNull UUID id, Pageable pageable);
+
+    List<AccountSummary> findByIdIn(@NotNull Collection<UUID> ids);
 }
@@ -1,13 +1,49 @@
 package org.example.repositories;
 
-import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.repository.PageableRepository;
 import jakarta.validation.constraints.NotNull;
 import org.example.domain.entities.Consent;
+import org.example.domain.entities.EnumConsentStatus;
+import org.example.domain.projections.ConsentState;
+import org.example.domain.projections.ConsentVersion;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-@Repository
+/**
+ * Consent queries shared by both persistence backends; the statements behind the custom updates and
+ * the keyset listing are provided by {@link JpaConsentRepository} and {@link JdbcConsentRepository}.
+ */
 public interface ConsentRepository extends PageableRepository<Consent, String> {
     Optional<Consent> findById(@NotNull String id);
+
+    Optional<ConsentVersion> queryById(@NotNull String id);
+
+    Optional<ConsentState> retrieveById(@NotNull String id);
+
+    /**
+     * Sets the status of a consent that is not {@code rejected} and has not expired at {@code now}, and
+     * bumps its version. Returns 0 when the consent is missing or either condition fails.
+     */
+    int updateStatus(@NotNull String id, @NotNull EnumConsentStatus status, @NotNull LocalDateTime now, @NotNull EnumConsentStatus rejected);
+
+    /**
+     * One page of a client's consents after the given (creationDateTime, id) key. The key is compared as
+     * a row value so the listing index is range-scanned from it. The status and expiration filters are
+     * checked on the index entries, so a page costs more the more rows in between the filters reject.
+     */
+    List<Consent> listAfter(@NotNull String clientId, @NotNull Collection<EnumConsentStatus> statuses,
+                            @NotNull LocalDateTime expiresAfter, @NotNull LocalDateTime expiresBefore,
+                            @NotNull LocalDateTime createdAfter, @NotNull String idAfter, Pageable pageable);
+
+    List<Consent> listBefore(@NotNull String clientId, @NotNull Collection<EnumConsentStatus> statuses,
+                             @NotNull LocalDateTime expiresAfter, @NotNull LocalDateTime expiresBefore,
+                             @NotNull LocalDateTime createdBefore, @NotNull String idBefore, Pageable pageable);
+
+    List<String> findIdByStatusInAndExpirationDateTimeLessThan(@NotNull Collection<EnumConsentStatus> statuses, @NotNull LocalDateTime now, Pageable pageable);
+
+    int rejectExpired(@NotNull Collection<String> ids, @NotNull EnumConsentStatus rejected, @NotNull LocalDateTime now);
 }
@@ -0,0 +1,13 @@
+package org.example.repositories;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+
+/**
+ * Plain JDBC {@link AccountRepository} with the SQL generated at compile time, active when
+ * {@code test-api.persistence} is {@code jdbc}. The SQL dialect is the one configured on the datasource.
+ */
+@JdbcRepository
+@Requires(property = "test-api.persistence", value = "jdbc")
+public interface JdbcAccountRepository extends AccountRepository {
+}
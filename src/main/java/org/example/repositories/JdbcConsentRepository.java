@@ -0,0 +1,51 @@
+package org.example.repositories;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.Pageable;
+import jakarta.validation.constraints.NotNull;
+import org.example.domain.entities.Consent;
+import org.example.domain.entities.EnumConsentStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC {@link ConsentRepository} with the SQL generated at compile time, active when
+ * {@code test-api.persistence} is {@code jdbc}. The SQL dialect is the one configured on the datasource,
+ * so the hand-written statements below stick to SQL that H2 and Postgres both accept.
+ */
+@JdbcRepository
+@Requires(property = "test-api.persistence", value = "jdbc")
+public interface JdbcConsentRepository extends ConsentRepository {
+
+    @Override
+    @Query("UPDATE consents SET status = :status, status_update_date_time = :now, version = version + 1 " +
+            "WHERE id = :id AND status <> :rejected AND expiration_date_time >= :now")
+    int updateStatus(@NotNull String id, @NotNull EnumConsentStatus status, @NotNull LocalDateTime now, @NotNull EnumConsentStatus rejected);
+
+    @Override
+    @Query("SELECT * FROM consents WHERE client_id = :clientId AND status IN (:statuses) " +
+            "AND expiration_date_time >= :expiresAfter AND expiration_date_time < :expiresBefore " +
+            "AND (creation_date_time, id) > (:createdAfter, :idAfter) " +
+            "ORDER BY creation_date_time ASC, id ASC")
+    List<Consent> listAfter(@NotNull String clientId, @NotNull Collection<EnumConsentStatus> statuses,
+                            @NotNull LocalDateTime expiresAfter, @NotNull LocalDateTime expiresBefore,
+                            @NotNull LocalDateTime createdAfter, @NotNull String idAfter, Pageable pageable);
+
+    @Override
+    @Query("SELECT * FROM consents WHERE client_id = :clientId AND status IN (:statuses) " +
+            "AND expiration_date_time >= :expiresAfter AND expiration_date_time < :expiresBefore " +
+            "AND (creation_date_time, id) < (:createdBefore, :idBefore) " +
+            "ORDER BY creation_date_time DESC, id DESC")
+    List<Consent> listBefore(@NotNull String clientId, @NotNull Collection<EnumConsentStatus> statuses,
+                             @NotNull LocalDateTime expiresAfter, @NotNull LocalDateTime expiresBefore,
+                             @NotNull LocalDateTime createdBefore, @NotNull String idBefore, Pageable pageable);
+
+    @Override
+    @Query("UPDATE consents SET status = :rejected, status_update_date_time = :now, version = version + 1 " +
+            "WHERE id IN (:ids) AND status <> :rejected AND expiration_date_time < :now")
+    int rejectExpired(@NotNull Collection<String> ids, @NotNull EnumConsentStatus rejected, @NotNull LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package org.example.repositories;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Repository;
+
+/**
+ * Hibernate backed {@link AccountRepository}, active when {@code test-api.persistence} is {@code jpa}.
+ */
+@Repository
+@Requires(property = "test-api.persistence", value = "jpa", defaultValue = "jpa")
+public interface JpaAccountRepository extends AccountRepository {
+}
@@ -0,0 +1,49 @@
+package org.example.repositories;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.model.Pageable;
+import jakarta.validation.constraints.NotNull;
+import org.example.domain.entities.Consent;
+import org.example.domain.entities.EnumConsentStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Hibernate backed {@link ConsentRepository}, active when {@code test-api.persistence} is {@code jpa}.
+ */
+@Repository
+@Requires(property = "test-api.persistence", value = "jpa", defaultValue = "jpa")
+public interface JpaConsentRepository extends ConsentRepository {
+
+    @Override
+    @Query("UPDATE Consent c SET c.status = :status, c.statusUpdateDateTime = :now, c.version = c.version + 1 " +
+            "WHERE c.id = :id AND c.status <> :rejected AND c.expirationDateTime >= :now")
+    int updateStatus(@NotNull String id, @NotNull EnumConsentStatus status, @NotNull LocalDateTime now, @NotNull EnumConsentStatus rejected);
+
+    @Override
+    @Query("SELECT c FROM Consent c WHERE c.clientId = :clientId AND c.status IN (:statuses) " +
+            "AND c.expirationDateTime >= :expiresAfter AND c.expirationDateTime < :expiresBefore " +
+            "AND (c.creationDateTime, c.id) > (:createdAfter, :idAfter) " +
+            "ORDER BY c.creationDateTime ASC, c.id ASC")
+    List<Consent> listAfter(@NotNull String clientId, @NotNull Collection<EnumConsentStatus> statuses,
+                            @NotNull LocalDateTime expiresAfter, @NotNull LocalDateTime expiresBefore,
+                            @NotNull LocalDateTime createdAfter, @NotNull String idAfter, Pageable pageable);
+
+    @Override
+    @Query("SELECT c FROM Consent c WHERE c.clientId = :clientId AND c.status IN (:statuses) " +
+            "AND c.expirationDateTime >= :expiresAfter AND c.expirationDateTime < :expiresBefore " +
+            "AND (c.creationDateTime, c.id) < (:createdBefore, :idBefore) " +
+            "ORDER BY c.creationDateTime DESC, c.id DESC")
+    List<Consent> listBefore(@NotNull String clientId, @NotNull Collection<EnumConsentStatus> statuses,
+                             @NotNull LocalDateTime expiresAfter, @NotNull LocalDateTime expiresBefore,
+                             @NotNull LocalDateTime createdBefore, @NotNull String idBefore, Pageable pageable);
+
+    @Override
+    @Query("UPDATE Consent c SET c.status = :rejected, c.statusUpdateDateTime = :now, c.version = c.version + 1 " +
+            "WHERE c.id IN (:ids) AND c.status <> :rejected AND c.expirationDateTime < :now")
+    int rejectExpired(@NotNull Collection<String> ids, @NotNull EnumConsentStatus rejected, @NotNull LocalDateTime now);
+}
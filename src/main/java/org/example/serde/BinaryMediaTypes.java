@@ -0,0 +1,34 @@
+package org.example.serde;
+
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+
+import java.util.List;
+
+public final class BinaryMediaTypes {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    private static final List<MediaType> NEGOTIATED = List.of(
+            MediaType.APPLICATION_JSON_TYPE, MediaType.of(APPLICATION_CBOR), MediaType.of(APPLICATION_SMILE));
+
+    private BinaryMediaTypes() {
+    }
+
+    /**
+     * The representation a route producing JSON, CBOR and Smile will answer with for the request's
+     * Accept header, JSON when nothing more specific is asked for.
+     */
+    public static MediaType negotiate(HttpRequest<?> request) {
+        for (MediaType accepted : MediaType.orderedOf(request.getHeaders().getAll(HttpHeaders.ACCEPT))) {
+            for (MediaType candidate : NEGOTIATED) {
+                if (candidate.matches(accepted)) {
+                    return candidate;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON_TYPE;
+    }
+}
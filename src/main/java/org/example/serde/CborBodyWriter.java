@@ -0,0 +1,15 @@
+package org.example.serde;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.serde.SerdeRegistry;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Produces(BinaryMediaTypes.APPLICATION_CBOR)
+public class CborBodyWriter<T> extends JacksonFormatBodyWriter<T> {
+
+    CborBodyWriter(SerdeRegistry registry) {
+        super(registry, new CBORFactory());
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.serde;
+
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.Serializer;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Writes {@link OffsetDateTime} the way jackson-databind's JavaTimeModule did with
+ * {@code writeDatesAsTimestamps}: epoch seconds with nine decimal places of nanoseconds, so
+ * {@code meta.requestDateTime} keeps its wire format.
+ */
+@Singleton
+@Primary
+public class DecimalSecondsOffsetDateTimeSerializer implements Serializer<OffsetDateTime> {
+
+    @Override
+    public void serialize(Encoder encoder, EncoderContext context, Argument<? extends OffsetDateTime> type, OffsetDateTime value) throws IOException {
+        long seconds = value.toEpochSecond();
+        int nanos = value.getNano();
+        if (seconds == 0 && nanos == 0) {
+            encoder.encodeBigDecimal(BigDecimal.ZERO.setScale(1));
+        } else {
+            encoder.encodeBigDecimal(BigDecimal.valueOf(seconds).setScale(9).add(BigDecimal.valueOf(nanos, 9)));
+        }
+    }
+}
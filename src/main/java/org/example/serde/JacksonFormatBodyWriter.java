@@ -0,0 +1,43 @@
+package org.example.serde;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.MutableHeaders;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.body.MessageBodyWriter;
+import io.micronaut.http.codec.CodecException;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.jackson.JacksonEncoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes response bodies in a binary Jackson data format using the same build-time generated
+ * serializers as JSON, so every encoding shares one DTO model and one {@code links}/{@code meta} envelope.
+ */
+abstract class JacksonFormatBodyWriter<T> implements MessageBodyWriter<T> {
+
+    private final SerdeRegistry registry;
+    private final JsonFactory factory;
+
+    JacksonFormatBodyWriter(SerdeRegistry registry, JsonFactory factory) {
+        this.registry = registry;
+        this.factory = factory;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writeTo(Argument<T> type, MediaType mediaType, T object, MutableHeaders outgoingHeaders, OutputStream outputStream) throws CodecException {
+        Serializer.EncoderContext context = registry.newEncoderContext(null);
+        try (JsonGenerator generator = factory.createGenerator(outputStream)) {
+            Argument<T> actualType = object == null || type.getType() != Object.class ? type : Argument.of((Class<T>) object.getClass());
+            Serializer<? super T> serializer = context.findSerializer(actualType).createSpecific(context, actualType);
+            serializer.serialize(JacksonEncoder.create(generator), context, actualType, object);
+        } catch (IOException e) {
+            throw new CodecException("Error encoding object [" + object + "] to " + mediaType + ": " + e.getMessage(), e);
+        }
+    }
+}
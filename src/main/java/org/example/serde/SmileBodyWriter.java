@@ -0,0 +1,15 @@
+package org.example.serde;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.serde.SerdeRegistry;
+import jakarta.inject.Singleton;
+
+@Singleton
+@Produces(BinaryMediaTypes.APPLICATION_SMILE)
+public class SmileBodyWriter<T> extends JacksonFormatBodyWriter<T> {
+
+    SmileBodyWriter(SerdeRegistry registry) {
+        super(registry, new SmileFactory());
+    }
+}
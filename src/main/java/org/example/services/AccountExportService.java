@@ -0,0 +1,112 @@
+package org.example.services;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.scheduling.TaskExecutors;
+import io.reactivex.Emitter;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.example.domain.responses.ResponseAccountData;
+import org.example.execution.ConnectionPermits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Streams every account as NDJSON straight off a forward-only JDBC cursor. Rows are only read
+ * when Netty requests more, so heap use does not depend on the size of the accounts table. The
+ * connection is held for the whole download, so it counts against the {@link ConnectionPermits}.
+ */
+@Singleton
+public class AccountExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccountExportService.class);
+    private static final String EXPORT_QUERY = "select id, bank, account_number from accounts order by id";
+    private static final byte NEW_LINE = '\n';
+
+    private final DataSource dataSource;
+    private final ConnectionPermits permits;
+    private final JsonMapper mapper;
+    private final Scheduler scheduler;
+    private final int fetchSize;
+
+    public AccountExportService(DataSource dataSource,
+                                ConnectionPermits permits,
+                                JsonMapper mapper,
+                                @Named(TaskExecutors.IO) ExecutorService ioExecutor,
+                                @Value("${test-api.export.fetch-size:500}") int fetchSize) {
+        this.dataSource = dataSource;
+        this.permits = permits;
+        this.mapper = mapper;
+        this.scheduler = Schedulers.from(ioExecutor);
+        this.fetchSize = fetchSize;
+    }
+
+    public Flowable<byte[]> exportAccounts() {
+        return Flowable.generate(this::openCursor, this::emitRow, AccountCursor::close)
+                .subscribeOn(scheduler);
+    }
+
+    private AccountCursor openCursor() throws SQLException {
+        permits.acquire();
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            PreparedStatement statement = connection.prepareStatement(EXPORT_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return new AccountCursor(connection, statement, statement.executeQuery(), permits);
+        } catch (SQLException | RuntimeException e) {
+            if (connection != null) {
+                connection.close();
+            }
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void emitRow(AccountCursor cursor, Emitter<byte[]> emitter) {
+        try {
+            if (!cursor.resultSet().next()) {
+                emitter.onComplete();
+                return;
+            }
+            ResponseAccountData account = new ResponseAccountData()
+                    .id(cursor.resultSet().getString("id"))
+                    .bank(cursor.resultSet().getString("bank"))
+                    .accountNumber(cursor.resultSet().getString("account_number"));
+            ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+            mapper.writeValue(line, account);
+            line.write(NEW_LINE);
+            emitter.onNext(line.toByteArray());
+        } catch (SQLException | IOException e) {
+            emitter.onError(e);
+        }
+    }
+
+    private record AccountCursor(Connection connection, PreparedStatement statement, ResultSet resultSet,
+                                 ConnectionPermits permits) {
+
+        void close() {
+            try (connection; statement; resultSet) {
+                connection.commit();
+            } catch (SQLException e) {
+                LOG.warn("Error closing account export cursor", e);
+            } finally {
+                permits.release();
+            }
+        }
+    }
+}
@@ -1,43 +1,133 @@
 package org.example.services;
 
-import io.micronaut.data.model.Page;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.exceptions.HttpStatusException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.transaction.Transactional;
-import org.example.domain.entities.Account;
 import org.example.domain.entities.EnumConsentPermissions;
+import org.example.domain.projections.AccountDetail;
+import org.example.domain.projections.AccountSummary;
 import org.example.domain.responses.ResponseAccount;
 import org.example.domain.responses.ResponseAccountData;
+import org.example.domain.responses.ResponseBatchAccount;
 import org.example.repositories.AccountRepository;
-import org.example.repositories.ConsentRepository;
-import org.example.util.Utils;
+import org.example.services.count.AccountCountProvider;
+import org.example.util.PageCursor;
+import org.example.util.Tagged;
+import org.example.execution.DatabaseBulkhead;
 
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 @Singleton
 @Transactional
+@DatabaseBulkhead
 public class AccountService {
     @Inject
     AccountRepository accountRepository;
 
     @Inject
-    ConsentRepository consentRepository;
+    ConsentAuthorisationCache consentAuthorisationCache;
 
-    public Page<ResponseAccountData> getAccounts(Pageable pageable, String consentId) {
-        Utils.validateConsent(consentId, consentRepository, EnumConsentPermissions.ACCOUNTS_READ);
-        return accountRepository.findAll(Optional.ofNullable(pageable).orElse(Pageable.unpaged())).map(Account::toResponseAccountData);
+    @Inject
+    AccountCountProvider accountCountProvider;
+
+    @Value("${test-api.batch.chunk-size:500}")
+    int batchChunkSize;
+
+    @Value("${test-api.batch.max-ids:1000}")
+    int batchMaxIds;
+
+    public CursorPage<ResponseAccountData> getAccounts(PageCursor cursor, int pageSize, String consentId) {
+        validateAccountsConsent(consentId);
+
+        // Only the first page carries the total, so walking the table with cursors never re-counts it
+        Long totalRecords = cursor == null ? accountCountProvider.count() : null;
+        return CursorPage.of(fetchPage(cursor, pageSize + 1), cursor, pageSize,
+                row -> row.id().toString(), AccountSummary::toResponseAccountData, totalRecords);
     }
 
-    public ResponseAccount getAccount(UUID accountId, String consentId) {
-        Account entity = accountRepository.findById(accountId)
+    public void validateAccountsConsent(String consentId) {
+        consentAuthorisationCache.validate(consentId, EnumConsentPermissions.ACCOUNTS_READ);
+    }
+
+    public String getAccountETag(UUID accountId) {
+        return accountRepository.queryById(accountId)
+                .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Account Id " + accountId + " not found"))
+                .etag();
+    }
+
+    public Tagged<ResponseAccount> getAccount(UUID accountId, String consentId) {
+        AccountDetail account = accountRepository.searchById(accountId)
                 .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Account Id " + accountId + " not found"));
 
-        return entity.toResponseAccount();
+        return new Tagged<>(account.toResponseAccount(), account.etag());
     }
 
+    public ResponseBatchAccount getAccountsBatch(List<String> accountIds, String consentId) {
+        validateAccountsConsent(consentId);
+        if (accountIds == null || accountIds.isEmpty()) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Request data missing accountIds");
+        }
+        if (accountIds.size() > batchMaxIds) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "No more than " + batchMaxIds + " accountIds allowed per request");
+        }
+
+        Map<UUID, String> requested = new LinkedHashMap<>();
+        for (String accountId : accountIds) {
+            requested.putIfAbsent(parseAccountId(accountId), accountId);
+        }
+
+        Map<UUID, AccountSummary> found = new HashMap<>();
+        List<UUID> ids = new ArrayList<>(requested.keySet());
+        for (int from = 0; from < ids.size(); from += batchChunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + batchChunkSize, ids.size()));
+            accountRepository.findByIdIn(chunk).forEach(account -> found.put(account.id(), account));
+        }
+
+        List<ResponseAccountData> data = new ArrayList<>(found.size());
+        List<String> notFound = new ArrayList<>();
+        requested.forEach((id, accountId) -> {
+            AccountSummary account = found.get(id);
+            if (account == null) {
+                notFound.add(accountId);
+            } else {
+                data.add(account.toResponseAccountData());
+            }
+        });
+        return new ResponseBatchAccount().data(data).notFound(notFound);
+    }
+
+    private List<AccountSummary> fetchPage(PageCursor cursor, int limit) {
+        Pageable ascending = Pageable.from(0, limit, Sort.of(Sort.Order.asc("id")));
+        Pageable descending = Pageable.from(0, limit, Sort.of(Sort.Order.desc("id")));
+        if (cursor == null) {
+            return accountRepository.list(ascending);
+        }
+        return switch (cursor.direction()) {
+            case NEXT -> accountRepository.findByIdGreaterThan(parseKey(cursor), ascending);
+            case PREV -> accountRepository.findByIdLessThan(parseKey(cursor), descending);
+            case LAST -> accountRepository.list(descending);
+        };
+    }
+
+    private static UUID parseAccountId(String accountId) {
+        try {
+            return UUID.fromString(accountId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Invalid account id " + accountId);
+        }
+    }
+
+    private static UUID parseKey(PageCursor cursor) {
+        try {
+            return UUID.fromString(cursor.key());
+        } catch (IllegalArgumentException e) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor " + cursor.encode());
+        }
+    }
 
 }
@@ -0,0 +1,123 @@
+package org.example.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+import org.example.domain.entities.Consent;
+import org.example.domain.entities.EnumConsentPermissions;
+import org.example.domain.entities.EnumConsentStatus;
+import org.example.repositories.ConsentRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Read-through cache of the consent fields {@link #validate} checks.
+ * Entries never outlive the consent's expirationDateTime and are dropped whenever a status changes.
+ */
+@Singleton
+public class ConsentAuthorisationCache {
+
+    private final ConsentRepository consentRepository;
+    private final boolean enabled;
+    private final Cache<String, ConsentSnapshot> cache;
+
+    public ConsentAuthorisationCache(ConsentRepository consentRepository,
+                                     @Value("${test-api.consent-cache.enabled:true}") boolean enabled,
+                                     @Value("${test-api.consent-cache.max-size:10000}") long maxSize,
+                                     @Value("${test-api.consent-cache.ttl:1m}") Duration ttl) {
+        this.consentRepository = consentRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilConsentExpires(ttl))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<ConsentSnapshot> find(String consentId) {
+        if (!enabled) {
+            return load(consentId);
+        }
+        return Optional.ofNullable(cache.get(consentId, id -> load(id).orElse(null)));
+    }
+
+    /**
+     * Rejects a request unless its consent exists, grants {@code permissions}, has not expired and is authorised.
+     */
+    public void validate(String consentId, EnumConsentPermissions permissions) {
+        if (consentId == null) {
+            throw new HttpStatusException(HttpStatus.FORBIDDEN, "Consent Id not present on the request");
+        }
+        ConsentSnapshot consent = find(consentId)
+                .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Consent Id " + consentId + " not found"));
+
+        if (!consent.permissions().equals(permissions)) {
+            throw new HttpStatusException(HttpStatus.FORBIDDEN, "Consent Id " + consentId + " doesn't have right permissions");
+        }
+
+        if (consent.expirationDateTime() != null && consent.expirationDateTime().isBefore(LocalDateTime.now())) {
+            throw new HttpStatusException(HttpStatus.FORBIDDEN, "Consent expired");
+        }
+
+        if (!consent.status().equals(EnumConsentStatus.AUTHORISED)) {
+            throw new HttpStatusException(HttpStatus.FORBIDDEN, "Consent Id " + consentId + " is not in the right status");
+        }
+    }
+
+    public void invalidate(String consentId) {
+        cache.invalidate(consentId);
+    }
+
+    @TransactionalEventListener
+    public void onConsentStatusChanged(ConsentStatusChanged event) {
+        invalidate(event.consentId());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private Optional<ConsentSnapshot> load(String consentId) {
+        return consentRepository.findById(consentId).map(ConsentSnapshot::of);
+    }
+
+    public record ConsentSnapshot(EnumConsentPermissions permissions, EnumConsentStatus status, LocalDateTime expirationDateTime) {
+        static ConsentSnapshot of(Consent consent) {
+            return new ConsentSnapshot(consent.getConsentPermissions(), consent.getStatus(), consent.getExpirationDateTime());
+        }
+    }
+
+    private record UntilConsentExpires(Duration ttl) implements Expiry<String, ConsentSnapshot> {
+
+        @Override
+        public long expireAfterCreate(String key, ConsentSnapshot value, long currentTime) {
+            if (value.expirationDateTime() == null) {
+                return ttl.toNanos();
+            }
+            long untilExpiry = Duration.between(LocalDateTime.now(), value.expirationDateTime()).toNanos();
+            return Math.max(0, Math.min(ttl.toNanos(), untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ConsentSnapshot value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, ConsentSnapshot value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
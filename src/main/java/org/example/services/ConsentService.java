@@ -1,5 +1,7 @@
 package org.example.services;
 
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.exceptions.HttpStatusException;
 import jakarta.inject.Inject;
@@ -7,37 +9,53 @@ import jakarta.inject.Singleton;
 import org.example.domain.entities.Consent;
 import org.example.domain.entities.EnumConsentStatus;
 import org.example.domain.payloads.CreateConsent;
+import org.example.domain.projections.ConsentState;
+import org.example.domain.projections.ConsentVersion;
 import org.example.domain.payloads.UpdateConsent;
 import org.example.domain.responses.ResponseConsent;
+import org.example.domain.responses.ResponseConsentData;
 import org.example.repositories.ConsentRepository;
 import org.example.services.validate.ConsentValidator;
 import org.example.services.validate.ExpirationDateValidator;
+import org.example.util.ETags;
+import org.example.util.PageCursor;
+import org.example.util.Tagged;
+import org.example.execution.DatabaseBulkhead;
 import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 @Singleton
 @Transactional
+@DatabaseBulkhead
 public class ConsentService {
 
     @Inject
     ConsentRepository consentRepository;
 
+    @Inject
+    ConsentAuthorisationCache consentAuthorisationCache;
+
+    @Inject
+    ApplicationEventPublisher<ConsentStatusChanged> statusChangedPublisher;
+
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59);
+
     private final List<ConsentValidator> validators = List.of(
             new ExpirationDateValidator());
 
     public ResponseConsent createConsent(String clientId, @NotNull CreateConsent body) {
         validateRequest(body);
 
-        Consent consent = consentRepository.save(Consent.fromRequest(body, clientId));
-        return consentRepository.findById(consent.getId())
-                .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Could not find recently saved ConsentEntity"))
-                .toResponseConsent();
+        return consentRepository.save(Consent.fromRequest(body, clientId)).toResponseConsent();
     }
 
-    public ResponseConsent getConsent(String consentId, String clientId) {
+    public Tagged<ResponseConsent> getConsent(String consentId, String clientId) {
         Consent entity = consentRepository.findById(consentId)
                 .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Consent Id " + consentId + " not found"));
 
@@ -45,15 +63,46 @@ public class ConsentService {
             throw new HttpStatusException(HttpStatus.FORBIDDEN, "Consent belongs to another client");
         }
 
-        return entity.toResponseConsent();
+        return new Tagged<>(entity.toResponseConsent(), ETags.of(entity.getVersion()));
     }
 
-    public ResponseConsent updateConsent(@NotNull String consentId, UpdateConsent request) {
-        Consent consent = updateConsentEntity(consentId, request);
-        return consent.toResponseConsent();
+    public String getConsentETag(String consentId, String clientId) {
+        ConsentVersion version = consentRepository.queryById(consentId)
+                .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Consent Id " + consentId + " not found"));
+
+        if (!version.clientId().equals(clientId)) {
+            throw new HttpStatusException(HttpStatus.FORBIDDEN, "Consent belongs to another client");
+        }
+
+        return version.etag();
+    }
+
+    public CursorPage<ResponseConsentData> listConsents(String clientId, String status, OffsetDateTime expiresAfter,
+                                                        OffsetDateTime expiresBefore, PageCursor cursor, int pageSize) {
+        Collection<EnumConsentStatus> statuses = parseStatuses(status);
+        LocalDateTime from = expiresAfter == null ? EARLIEST : expiresAfter.toLocalDateTime();
+        LocalDateTime to = expiresBefore == null ? LATEST : expiresBefore.toLocalDateTime();
+        Pageable limit = Pageable.from(0, pageSize + 1);
+
+        List<Consent> rows;
+        if (cursor == null) {
+            rows = consentRepository.listAfter(clientId, statuses, from, to, EARLIEST, "", limit);
+        } else if (cursor.direction() == PageCursor.Direction.LAST) {
+            rows = consentRepository.listBefore(clientId, statuses, from, to, LATEST, "", limit);
+        } else {
+            int separator = cursor.key().indexOf('|');
+            LocalDateTime created = parseCreated(cursor, separator);
+            String id = cursor.key().substring(separator + 1);
+            rows = cursor.direction() == PageCursor.Direction.NEXT
+                    ? consentRepository.listAfter(clientId, statuses, from, to, created, id, limit)
+                    : consentRepository.listBefore(clientId, statuses, from, to, created, id, limit);
+        }
+
+        return CursorPage.of(rows, cursor, pageSize,
+                consent -> consent.getCreationDateTime() + "|" + consent.getId(), Consent::toResponseConsentData, null);
     }
 
-    private Consent updateConsentEntity(String consentId, UpdateConsent request) {
+    public ResponseConsent updateConsent(@NotNull String consentId, UpdateConsent request) {
         if (request.getData().getStatus() == null) {
             throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Request data missing a status value");
         }
@@ -62,23 +111,56 @@ public class ConsentService {
             throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Status not allowed");
         }
 
-        Consent consent = consentRepository.findById(consentId)
-                .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Consent Id " + consentId + " not found"));
-
-        if (consent.getStatus().equals(EnumConsentStatus.REJECTED)) {
-            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Consent already Rejected");
+        // One statement on success: the update only matches a consent that exists, isn't REJECTED and hasn't
+        // expired, which is compare-and-set on the state itself since REJECTED is final
+        LocalDateTime now = LocalDateTime.now();
+        EnumConsentStatus status = EnumConsentStatus.valueOf(request.getData().getStatus());
+        if (consentRepository.updateStatus(consentId, status, now, EnumConsentStatus.REJECTED) == 0) {
+            throw updateRefused(consentId, now);
         }
+        consentAuthorisationCache.invalidate(consentId);
+        statusChangedPublisher.publishEvent(new ConsentStatusChanged(consentId));
+
+        // Only what the update wrote, so nothing in the body predates it
+        return new ResponseConsent().data(new ResponseConsentData()
+                .consentId(consentId)
+                .status(status.name())
+                .statusUpdateDateTime(now));
+    }
 
-        if (consent.getExpirationDateTime().isBefore((LocalDateTime.now()))) {
-            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Consent expired");
+    // Zero rows tells nothing about which condition failed, so only then is the row read to pick the answer.
+    // A conflict is left for the case where the row as it is now would still have been accepted.
+    private HttpStatusException updateRefused(String consentId, LocalDateTime now) {
+        Optional<ConsentState> current = consentRepository.retrieveById(consentId);
+        if (current.isEmpty()) {
+            return new HttpStatusException(HttpStatus.NOT_FOUND, "Consent Id " + consentId + " not found");
+        }
+        if (current.get().status() == EnumConsentStatus.REJECTED) {
+            return new HttpStatusException(HttpStatus.BAD_REQUEST, "Consent already Rejected");
         }
+        if (current.get().expirationDateTime().isBefore(now)) {
+            return new HttpStatusException(HttpStatus.BAD_REQUEST, "Consent expired");
+        }
+        return new HttpStatusException(HttpStatus.CONFLICT, "Consent Id " + consentId + " was modified concurrently");
+    }
 
-        consent.setStatus(EnumConsentStatus.valueOf(request.getData().getStatus()));
-        consent.setStatusUpdateDateTime(LocalDateTime.now());
-        consentRepository.update(consent);
+    private static Collection<EnumConsentStatus> parseStatuses(String status) {
+        if (status == null) {
+            return EnumSet.allOf(EnumConsentStatus.class);
+        }
+        try {
+            return EnumSet.of(EnumConsentStatus.valueOf(status));
+        } catch (IllegalArgumentException e) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Invalid status " + status);
+        }
+    }
 
-        return consentRepository.findById(consent.getId())
-                .orElseThrow(() -> new HttpStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not look up consent that has just been updated"));
+    private static LocalDateTime parseCreated(PageCursor cursor, int separator) {
+        try {
+            return LocalDateTime.parse(cursor.key().substring(0, separator));
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor " + cursor.encode());
+        }
     }
 
     private void validateRequest(CreateConsent body) {
@@ -0,0 +1,4 @@
+package org.example.services;
+
+public record ConsentStatusChanged(String consentId) {
+}
@@ -0,0 +1,44 @@
+package org.example.services;
+
+import org.example.util.PageCursor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> content, PageCursor prev, PageCursor next, Long totalRecords) {
+
+    /**
+     * Builds a page from up to {@code pageSize + 1} rows read in the cursor's direction; the extra row
+     * only tells whether there is more to read beyond this page.
+     */
+    public static <R, T> CursorPage<T> of(List<R> rows, PageCursor cursor, int pageSize,
+                                          Function<R, String> key, Function<R, T> mapper, Long totalRecords) {
+        boolean backwards = cursor != null && cursor.direction() != PageCursor.Direction.NEXT;
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        if (backwards) {
+            rows = new ArrayList<>(rows);
+            Collections.reverse(rows);
+        }
+
+        PageCursor prev = null;
+        PageCursor next = null;
+        if (!rows.isEmpty()) {
+            String firstKey = key.apply(rows.get(0));
+            String lastKey = key.apply(rows.get(rows.size() - 1));
+            if (backwards) {
+                prev = hasMore ? PageCursor.prev(firstKey) : null;
+                next = cursor.direction() == PageCursor.Direction.PREV ? PageCursor.next(lastKey) : null;
+            } else {
+                prev = cursor != null ? PageCursor.prev(firstKey) : null;
+                next = hasMore ? PageCursor.next(lastKey) : null;
+            }
+        }
+
+        return new CursorPage<>(rows.stream().map(mapper).toList(), prev, next, totalRecords);
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.services;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import org.example.domain.entities.EnumConsentStatus;
+import org.example.repositories.ConsentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves consents past their expirationDateTime to REJECTED one chunk per scheduled run. Each chunk
+ * commits on its own and the schedule's fixed delay is the pause between chunks, so a backlog drains
+ * a chunk at a time without ever holding locks or connections for long or sleeping on the scheduler.
+ */
+@Singleton
+@Requires(property = "test-api.consent-sweeper.enabled", notEquals = StringUtils.FALSE)
+public class ExpiredConsentSweeper {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExpiredConsentSweeper.class);
+
+    private static final EnumSet<EnumConsentStatus> SWEEPABLE = EnumSet.of(EnumConsentStatus.AWAITING_AUTHORISATION, EnumConsentStatus.AUTHORISED);
+
+    private final ConsentRepository consentRepository;
+    private final ConsentAuthorisationCache consentAuthorisationCache;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong skippedRuns = new AtomicLong();
+    private final AtomicLong totalRejected = new AtomicLong();
+    private final AtomicLong lastRunRejected = new AtomicLong();
+    private final AtomicLong lastRunMillis = new AtomicLong();
+
+    public ExpiredConsentSweeper(ConsentRepository consentRepository,
+                                 ConsentAuthorisationCache consentAuthorisationCache,
+                                 @Value("${test-api.consent-sweeper.batch-size:500}") int batchSize) {
+        this.consentRepository = consentRepository;
+        this.consentAuthorisationCache = consentAuthorisationCache;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelay = "${test-api.consent-sweeper.interval:5s}", initialDelay = "${test-api.consent-sweeper.interval:5s}")
+    public void sweep() {
+        if (!running.compareAndSet(false, true)) {
+            skippedRuns.incrementAndGet();
+            return;
+        }
+        long started = System.nanoTime();
+        long rejected = 0;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<String> ids = consentRepository.findIdByStatusInAndExpirationDateTimeLessThan(SWEEPABLE, now, Pageable.from(0, batchSize));
+            if (!ids.isEmpty()) {
+                rejected = consentRepository.rejectExpired(ids, EnumConsentStatus.REJECTED, now);
+                ids.forEach(consentAuthorisationCache::invalidate);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Expired consent sweep failed", e);
+        } finally {
+            runs.incrementAndGet();
+            totalRejected.addAndGet(rejected);
+            lastRunRejected.set(rejected);
+            lastRunMillis.set(Duration.ofNanos(System.nanoTime() - started).toMillis());
+            running.set(false);
+        }
+        if (rejected > 0) {
+            LOG.info("Expired consent sweep rejected {} consents", rejected);
+        }
+    }
+
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("runs", runs.get());
+        stats.put("skipped-runs", skippedRuns.get());
+        stats.put("total-rejected", totalRejected.get());
+        stats.put("last-run-rejected", lastRunRejected.get());
+        stats.put("last-run-millis", lastRunMillis.get());
+        return stats;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.services.count;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.exceptions.ConfigurationException;
+
+import java.util.List;
+
+/**
+ * Checks {@code test-api.total-count.mode} at startup. Without it an unknown value leaves no
+ * {@link AccountCountProvider} at all, which only shows up as a dependency injection error.
+ */
+@Context
+public class AccountCountMode {
+
+    static final List<String> MODES = List.of("exact", "cached", "estimate");
+
+    AccountCountMode(@Value("${test-api.total-count.mode:exact}") String mode) {
+        if (!MODES.contains(mode)) {
+            throw new ConfigurationException("Unknown test-api.total-count.mode '" + mode + "', expected one of " + MODES);
+        }
+    }
+}
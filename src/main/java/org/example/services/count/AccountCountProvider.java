@@ -0,0 +1,13 @@
+package org.example.services.count;
+
+/**
+ * Source of {@code meta.totalRecords} for the accounts listing. The implementation is picked
+ * with {@code test-api.total-count.mode}: exact, cached or estimate.
+ */
+public interface AccountCountProvider {
+
+    long count();
+
+    default void invalidate() {
+    }
+}
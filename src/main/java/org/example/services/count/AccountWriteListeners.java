@@ -0,0 +1,21 @@
+package org.example.services.count;
+
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.data.event.listeners.PostPersistEventListener;
+import io.micronaut.data.event.listeners.PostRemoveEventListener;
+import jakarta.inject.Singleton;
+import org.example.domain.entities.Account;
+
+@Factory
+public class AccountWriteListeners {
+
+    @Singleton
+    PostPersistEventListener<Account> invalidateCountOnPersist(AccountCountProvider countProvider) {
+        return account -> countProvider.invalidate();
+    }
+
+    @Singleton
+    PostRemoveEventListener<Account> invalidateCountOnRemove(AccountCountProvider countProvider) {
+        return account -> countProvider.invalidate();
+    }
+}
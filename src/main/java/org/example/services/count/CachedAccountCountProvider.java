@@ -0,0 +1,44 @@
+package org.example.services.count;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import org.example.repositories.AccountRepository;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Singleton
+@Requires(property = "test-api.total-count.mode", value = "cached")
+public class CachedAccountCountProvider implements AccountCountProvider {
+
+    private final AccountRepository accountRepository;
+    private final long ttlNanos;
+    private final AtomicReference<CachedCount> cached = new AtomicReference<>();
+
+    public CachedAccountCountProvider(AccountRepository accountRepository,
+                                      @Value("${test-api.total-count.ttl:30s}") Duration ttl) {
+        this.accountRepository = accountRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public long count() {
+        long now = System.nanoTime();
+        CachedCount current = cached.get();
+        if (current != null && now - current.countedAt() < ttlNanos) {
+            return current.value();
+        }
+        CachedCount fresh = new CachedCount(accountRepository.count(), now);
+        cached.compareAndSet(current, fresh);
+        return fresh.value();
+    }
+
+    @Override
+    public void invalidate() {
+        cached.set(null);
+    }
+
+    private record CachedCount(long value, long countedAt) {
+    }
+}
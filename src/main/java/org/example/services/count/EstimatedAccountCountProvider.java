@@ -0,0 +1,58 @@
+package org.example.services.count;
+
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import org.example.repositories.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.OptionalLong;
+
+/**
+ * Reads the planner's row estimate for the accounts table instead of counting it.
+ * Falls back to an exact count when the database has no estimate available.
+ */
+@Singleton
+@Requires(property = "test-api.total-count.mode", value = "estimate")
+public class EstimatedAccountCountProvider implements AccountCountProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EstimatedAccountCountProvider.class);
+    private static final String POSTGRES_ESTIMATE = "select reltuples::bigint from pg_class where relname = 'accounts'";
+    private static final String H2_ESTIMATE = "select row_count_estimate from information_schema.tables where lower(table_name) = 'accounts'";
+
+    private final DataSource dataSource;
+    private final AccountRepository accountRepository;
+
+    public EstimatedAccountCountProvider(DataSource dataSource, AccountRepository accountRepository) {
+        this.dataSource = dataSource;
+        this.accountRepository = accountRepository;
+    }
+
+    @Override
+    public long count() {
+        return estimate().orElseGet(accountRepository::count);
+    }
+
+    /**
+     * The database's own row estimate, or empty when it has none and {@link #count()} has to count.
+     */
+    public OptionalLong estimate() {
+        try (Connection connection = dataSource.getConnection()) {
+            String query = connection.getMetaData().getDatabaseProductName().startsWith("PostgreSQL") ? POSTGRES_ESTIMATE : H2_ESTIMATE;
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(query)) {
+                if (resultSet.next() && resultSet.getLong(1) >= 0) {
+                    return OptionalLong.of(resultSet.getLong(1));
+                }
+            }
+        } catch (SQLException e) {
+            LOG.warn("Could not read the accounts row estimate, counting instead", e);
+        }
+        return OptionalLong.empty();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.services.count;
+
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import org.example.repositories.AccountRepository;
+
+@Singleton
+@Requires(property = "test-api.total-count.mode", value = "exact", defaultValue = "exact")
+public class ExactAccountCountProvider implements AccountCountProvider {
+
+    private final AccountRepository accountRepository;
+
+    public ExactAccountCountProvider(AccountRepository accountRepository) {
+        this.accountRepository = accountRepository;
+    }
+
+    @Override
+    public long count() {
+        return accountRepository.count();
+    }
+}
@@ -13,9 +13,9 @@ public class ExpirationDateValidator implements ConsentValidator {
     private static final Logger LOG = LoggerFactory.getLogger(ExpirationDateValidator.class);
     @Override
     public void validate(CreateConsent request) {
-        LOG.info("Validating the expirationDateTime");
+        LOG.debug("Validating the expirationDateTime");
         if (request.getData().getExpirationDateTime().isAfter(OffsetDateTime.now().plusYears(1l))) {
-            LOG.info("expirationDateTime {} not valid", request.getData().getExpirationDateTime());
+            LOG.debug("expirationDateTime {} not valid", request.getData().getExpirationDateTime());
             throw new HttpStatusException(HttpStatus.BAD_REQUEST, "ExpirationDateTime can't be further than a year");
         }
     }
@@ -0,0 +1,33 @@
+package org.example.util;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Millisecond-granularity clock for response timestamps: every caller within the same millisecond
+ * gets the same immutable {@link OffsetDateTime} instead of building a new one.
+ */
+public final class CoarseClock {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final AtomicReference<Tick> LAST = new AtomicReference<>(new Tick(0, null));
+
+    private CoarseClock() {
+    }
+
+    public static OffsetDateTime now() {
+        long millis = System.currentTimeMillis();
+        Tick last = LAST.get();
+        if (last.millis() == millis) {
+            return last.time();
+        }
+        Tick tick = new Tick(millis, OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE));
+        LAST.set(tick);
+        return tick.time();
+    }
+
+    private record Tick(long millis, OffsetDateTime time) {
+    }
+}
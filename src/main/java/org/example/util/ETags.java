@@ -0,0 +1,51 @@
+package org.example.util;
+
+import io.micronaut.http.MediaType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * For rows without a version column: the id keeps rows that were never updated, whose
+     * statusUpdateDateTime is null, from all sharing one tag.
+     */
+    public static String of(Object id, LocalDateTime statusUpdateDateTime) {
+        long version = statusUpdateDateTime == null ? 0 : statusUpdateDateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + statusUpdateDateTime.getNano();
+        return "\"" + id + "-" + Long.toHexString(version) + "\"";
+    }
+
+    public static String of(long version) {
+        return "\"" + Long.toHexString(version) + "\"";
+    }
+
+    /**
+     * The same version served as CBOR or Smile is a different byte sequence, so it gets its own tag.
+     */
+    public static String forRepresentation(String etag, MediaType mediaType) {
+        if (MediaType.APPLICATION_JSON_TYPE.equals(mediaType)) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + mediaType.getSubtype() + "\"";
+    }
+
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
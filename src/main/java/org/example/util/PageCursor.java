@@ -0,0 +1,70 @@
+package org.example.util;
+
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor handed out in {@code links.next}/{@code links.prev}: the direction to read
+ * in and the key the read starts after (or before).
+ */
+public record PageCursor(Direction direction, String key) {
+
+    public enum Direction {
+        NEXT('n'),
+        PREV('p'),
+        LAST('l');
+
+        private final char code;
+
+        Direction(char code) {
+            this.code = code;
+        }
+
+        static Direction of(char code) {
+            for (Direction direction : values()) {
+                if (direction.code == code) {
+                    return direction;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static PageCursor next(String key) {
+        return new PageCursor(Direction.NEXT, key);
+    }
+
+    public static PageCursor prev(String key) {
+        return new PageCursor(Direction.PREV, key);
+    }
+
+    public static PageCursor last() {
+        return new PageCursor(Direction.LAST, "");
+    }
+
+    public String encode() {
+        String raw = direction.code + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid(cursor);
+        }
+        Direction direction = raw.length() >= 2 && raw.charAt(1) == ':' ? Direction.of(raw.charAt(0)) : null;
+        if (direction == null) {
+            throw invalid(cursor);
+        }
+        return new PageCursor(direction, raw.substring(2));
+    }
+
+    private static HttpStatusException invalid(String cursor) {
+        return new HttpStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor " + cursor);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.util;
+
+/**
+ * A response body together with the ETag of the exact row it was built from.
+ */
+public record Tagged<T>(T body, String etag) {
+}
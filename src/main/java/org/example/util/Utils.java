@@ -1,67 +1,72 @@
 package org.example.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.exceptions.HttpStatusException;
-import org.example.domain.entities.Consent;
-import org.example.domain.entities.EnumConsentPermissions;
-import org.example.domain.entities.EnumConsentStatus;
+import org.example.domain.responses.Envelope;
 import org.example.domain.responses.Links;
 import org.example.domain.responses.Meta;
-import org.example.repositories.ConsentRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.OffsetDateTime;
-import java.util.function.Consumer;
-
 public class Utils {
 
     private static final Logger LOG = LoggerFactory.getLogger(Utils.class);
 
-    public static void decorateResponse(Consumer<Links> setLinks, Consumer<Meta> setMeta, String self, long records, int pageSize) {
-        setLinks.accept(new Links().self(self));
-        var page = pageSize <= 0 ? 0 : (int) Math.ceil((double) records / pageSize);
-        setMeta.accept(new Meta().totalPages(page).totalRecords(records).requestDateTime(OffsetDateTime.now()));
+    public static void decorateResponse(Envelope response, String self, long records, int pageSize) {
+        decorateResponse(response, new Links().self(self), records, pageSize);
     }
 
-    public static void logObject(ObjectMapper mapper, Object res) {
-        try {
-            String response = mapper.writeValueAsString(res);
-            LOG.info("{} - {}", res.getClass().getSimpleName(), response);
-        } catch (JsonProcessingException e) {
-            LOG.error("{} - Error writing object as JSON: ", res.getClass().getSimpleName(), e);
-        }
+    public static void decorateResponse(Envelope response, Links links, Long records, int pageSize) {
+        response.setLinks(links);
+        Integer pages = records == null ? null : pageSize <= 0 ? 0 : (int) ((records + pageSize - 1) / pageSize);
+        response.setMeta(new Meta().totalPages(pages).totalRecords(records).requestDateTime(CoarseClock.now()));
     }
 
-    public static void validateConsent(String consentId, ConsentRepository repository, EnumConsentPermissions permissions) {
-        if (consentId == null) {
-            throw new HttpStatusException(HttpStatus.FORBIDDEN, "Consent Id not present on the request");
-        }
-        Consent entity = repository.findById(consentId)
-                .orElseThrow(() -> new HttpStatusException(HttpStatus.NOT_FOUND, "Consent Id " + consentId + " not found"));
+    public static Links pageLinks(String basePath, String rawQuery, int pageSize, PageCursor prev, PageCursor next) {
+        String first = basePath + "?page-size=" + pageSize + filterParams(rawQuery);
+        return new Links()
+                .self(rawQuery == null || rawQuery.isEmpty() ? basePath : basePath + "?" + rawQuery)
+                .first(first)
+                .prev(prev == null ? null : first + "&cursor=" + prev.encode())
+                .next(next == null ? null : first + "&cursor=" + next.encode())
+                .last(first + "&cursor=" + PageCursor.last().encode());
+    }
 
-        if (!entity.getConsentPermissions().equals(permissions)) {
-            throw new HttpStatusException(HttpStatus.FORBIDDEN, "Consent Id " + consentId + " doesn't have right permissions");
+    public static int resolvePageSize(Integer pageSize, int maxPageSize) {
+        if (pageSize == null) {
+            return maxPageSize;
         }
+        if (pageSize < 1) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "page-size must be greater than zero");
+        }
+        return Math.min(pageSize, maxPageSize);
+    }
 
-        if (!entity.getStatus().equals(EnumConsentStatus.AUTHORISED)) {
-            throw new HttpStatusException(HttpStatus.FORBIDDEN, "Consent Id " + consentId + " is not in the right status");
+    // Query parameters other than paging ones are filters and have to be carried into every page link
+    private static String filterParams(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        StringBuilder filters = new StringBuilder();
+        for (String param : rawQuery.split("&")) {
+            if (!param.isEmpty() && !param.startsWith("page-size=") && !param.startsWith("cursor=")) {
+                filters.append('&').append(param);
+            }
         }
+        return filters.toString();
     }
 
     public static String getRequestClientId(HttpRequest<?> request) {
         String clientId = request.getAttribute("clientId")
                 .orElseThrow(() -> new HttpStatusException(HttpStatus.BAD_REQUEST, "Access token did not contain a client ID")).toString();
-        LOG.info("Request made by client id: {}", clientId);
+        LOG.debug("Request made by client id: {}", clientId);
         return clientId;
     }
 
     public static String getRequestConsentId(HttpRequest<?> request) {
         String consentId = request.getAttribute("consentId").map(Object::toString).orElse(null);
-        LOG.info("Request made with consent Id: {}", consentId);
+        LOG.debug("Request made with consent Id: {}", consentId);
         return consentId;
     }
 }
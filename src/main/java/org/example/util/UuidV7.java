@@ -0,0 +1,37 @@
+package org.example.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs in the RFC 9562 version 7 layout: a 48-bit millisecond timestamp followed by a
+ * 12-bit sequence that keeps ids strictly increasing within this JVM, with the remaining bits
+ * drawn from {@link ThreadLocalRandom} instead of the shared {@code SecureRandom}.
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+
+    // Last issued (millis << SEQUENCE_BITS | sequence); a sequence overflow carries into the millis
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long candidate = System.currentTimeMillis() << SEQUENCE_BITS;
+        long previous;
+        long current;
+        do {
+            previous = LAST.get();
+            current = candidate > previous ? candidate : previous + 1;
+        } while (!LAST.compareAndSet(previous, current));
+
+        long millis = current >>> SEQUENCE_BITS;
+        long sequence = current & ((1L << SEQUENCE_BITS) - 1);
+        long mostSigBits = (millis << 16) | (0x7L << 12) | sequence;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
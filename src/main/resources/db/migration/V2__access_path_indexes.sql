@@ -0,0 +1,3 @@
+alter table accounts add constraint pk_accounts primary key (id);
+
+create index idx_consents_status_expiration on consents (status, expiration_date_time);
@@ -0,0 +1 @@
+alter table consents add column version bigint default 0 not null;
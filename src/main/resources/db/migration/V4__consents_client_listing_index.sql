@@ -0,0 +1 @@
+create index idx_consents_client_listing on consents (client_id, creation_date_time, id, status, expiration_date_time);
@@ -0,0 +1,187 @@
+package tests.accounts;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.example.Application;
+import org.example.domain.entities.Account;
+import org.example.domain.entities.Consent;
+import org.example.domain.entities.EnumConsentPermissions;
+import org.example.domain.entities.EnumConsentStatus;
+import org.example.repositories.AccountRepository;
+import org.example.repositories.ConsentRepository;
+import org.example.util.UuidV7;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AccountCompressionTests extends TestBase {
+
+    // Enough accounts that a page of them is well above the 1 KiB compression threshold
+    private static final int ACCOUNTS = 50;
+    private static final int PAGE_SIZE = 25;
+    private static final RestAssuredConfig NO_ACCEPT_ENCODING = RestAssuredConfig.config()
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+    private static EmbeddedServer server;
+    private static String token;
+
+    @BeforeAll
+    public static void startServer() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("micronaut.server.port", -1);
+        config.put("datasources.default.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.put("test-api.consent-sweeper.enabled", "false");
+        server = ApplicationContext.run(EmbeddedServer.class, config, Application.persistenceEnvironment());
+        seedAccounts(server.getApplicationContext());
+        token = generateJwtToken("accounts", authorisedConsent(server.getApplicationContext()));
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    // TC001 - The account listing is gzip compressed when the client accepts gzip
+    public void testListingIsGzipCompressed() {
+        given()
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "gzip")
+                .queryParam("page-size", PAGE_SIZE)
+        .when()
+                .get(listingUrl())
+        .then()
+                .statusCode(200)
+                .header("Content-Encoding", equalTo("gzip"))
+                .body("data", hasSize(PAGE_SIZE));
+    }
+
+    @Test
+    // TC002 - The account listing is deflate compressed when the client accepts deflate
+    public void testListingIsDeflateCompressed() {
+        given()
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "deflate")
+                .queryParam("page-size", PAGE_SIZE)
+        .when()
+                .get(listingUrl())
+        .then()
+                .statusCode(200)
+                .header("Content-Encoding", equalTo("deflate"))
+                .body("data", hasSize(PAGE_SIZE));
+    }
+
+    @Test
+    // TC003 - The account listing is sent uncompressed without Accept-Encoding
+    public void testListingIsUncompressedWithoutAcceptEncoding() {
+        given()
+                .config(NO_ACCEPT_ENCODING)
+                .header("Authorization", "Bearer " + token)
+                .queryParam("page-size", PAGE_SIZE)
+        .when()
+                .get(listingUrl())
+        .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body("data", hasSize(PAGE_SIZE));
+    }
+
+    @Test
+    // TC004 - The account export is gzip compressed when the client accepts gzip
+    public void testExportIsGzipCompressed() {
+        String body = given()
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "gzip")
+        .when()
+                .get(exportUrl())
+        .then()
+                .statusCode(200)
+                .header("Content-Encoding", equalTo("gzip"))
+                .extract()
+                .asString();
+
+        assertThat(body.trim().split("\n").length, greaterThanOrEqualTo(ACCOUNTS));
+    }
+
+    @Test
+    // TC005 - The account export is deflate compressed when the client accepts deflate
+    public void testExportIsDeflateCompressed() {
+        String body = given()
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "deflate")
+        .when()
+                .get(exportUrl())
+        .then()
+                .statusCode(200)
+                .header("Content-Encoding", equalTo("deflate"))
+                .extract()
+                .asString();
+
+        assertThat(body.trim().split("\n").length, greaterThanOrEqualTo(ACCOUNTS));
+    }
+
+    @Test
+    // TC006 - The account export is sent uncompressed without Accept-Encoding
+    public void testExportIsUncompressedWithoutAcceptEncoding() {
+        String body = given()
+                .config(NO_ACCEPT_ENCODING)
+                .header("Authorization", "Bearer " + token)
+        .when()
+                .get(exportUrl())
+        .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .extract()
+                .asString();
+
+        assertThat(body.trim().split("\n").length, greaterThanOrEqualTo(ACCOUNTS));
+    }
+
+    private static String listingUrl() {
+        return server.getURL() + "/test-api/account/v1/accounts";
+    }
+
+    private static String exportUrl() {
+        return listingUrl() + "/export";
+    }
+
+    private static void seedAccounts(ApplicationContext context) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = new Account();
+            account.setId(UUID.randomUUID());
+            account.setBank("Test Bank");
+            account.setAccountNumber(String.format("%07d-0", i));
+            account.setCreationDateTime(LocalDateTime.now());
+            account.setStatusUpdateDateTime(LocalDateTime.now());
+            accounts.add(account);
+        }
+        context.getBean(AccountRepository.class).saveAll(accounts);
+    }
+
+    private static String authorisedConsent(ApplicationContext context) {
+        Consent consent = new Consent();
+        consent.setId("urn:bank:" + UuidV7.next());
+        consent.setClientId("client1");
+        consent.setStatus(EnumConsentStatus.AUTHORISED);
+        consent.setConsentPermissions(EnumConsentPermissions.ACCOUNTS_READ);
+        consent.setCreationDateTime(LocalDateTime.now());
+        consent.setStatusUpdateDateTime(LocalDateTime.now());
+        consent.setExpirationDateTime(LocalDateTime.now().plusDays(1));
+        return context.getBean(ConsentRepository.class).save(consent).getId();
+    }
+}
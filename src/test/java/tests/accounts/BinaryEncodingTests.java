@@ -0,0 +1,127 @@
+package tests.accounts;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class BinaryEncodingTests extends TestBase {
+
+    private static final String ACCOUNTS_ENDPOINT = "/account/v1/accounts";
+    private static final String ACCOUNT_ENDPOINT = "/account/v1/account/";
+    private static final String CONSENTS_ENDPOINT = "/consents/v1/consents/";
+    private static final String NUBANK_ACCOUNT = "87caf37b-f70f-440c-bacd-3b9399ca5d74";
+    private static final String CBOR = "application/cbor";
+    private static final String SMILE = "application/x-jackson-smile";
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper CBOR_MAPPER = new ObjectMapper(new CBORFactory());
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+
+    @Test
+    // TC001 - Accounts list round-trips through CBOR with the same content as JSON
+    public void testAccountsListRoundTripsThroughCbor() throws IOException {
+        assertSameAccountsList(CBOR, CBOR_MAPPER);
+    }
+
+    @Test
+    // TC002 - Accounts list round-trips through Smile with the same content as JSON
+    public void testAccountsListRoundTripsThroughSmile() throws IOException {
+        assertSameAccountsList(SMILE, SMILE_MAPPER);
+    }
+
+    @Test
+    // TC003 - Single account round-trips through CBOR and Smile
+    public void testAccountRoundTripsThroughBinaryEncodings() throws IOException {
+        String token = getValidToken();
+        JsonNode json = fetch(ACCOUNT_ENDPOINT + NUBANK_ACCOUNT, token, "application/json", JSON_MAPPER);
+
+        for (String mediaType : new String[]{CBOR, SMILE}) {
+            JsonNode binary = fetch(ACCOUNT_ENDPOINT + NUBANK_ACCOUNT, token, mediaType, mediaType.equals(CBOR) ? CBOR_MAPPER : SMILE_MAPPER);
+            assertThat(binary.path("data"), equalTo(json.path("data")));
+            assertThat(binary.path("links"), equalTo(json.path("links")));
+        }
+    }
+
+    @Test
+    // TC004 - Consent round-trips through CBOR and Smile
+    public void testConsentRoundTripsThroughBinaryEncodings() throws IOException {
+        String token = generateConsentToken();
+        String consentId = createAccountConsent(token, LocalDateTime.now().plusDays(1));
+        JsonNode json = fetch(CONSENTS_ENDPOINT + consentId, token, "application/json", JSON_MAPPER);
+
+        for (String mediaType : new String[]{CBOR, SMILE}) {
+            JsonNode binary = fetch(CONSENTS_ENDPOINT + consentId, token, mediaType, mediaType.equals(CBOR) ? CBOR_MAPPER : SMILE_MAPPER);
+            assertThat(binary.path("data"), equalTo(json.path("data")));
+            assertThat(binary.path("data").path("expirationDatTime").isTextual(), is(true));
+        }
+    }
+
+    @Test
+    // TC005 - Each encoding has its own ETag and responses vary on Accept
+    public void testEncodingsHaveDistinctETagsAndVaryOnAccept() {
+        String token = getValidToken();
+        String jsonETag = etagFor(token, "application/json");
+        String cborETag = etagFor(token, CBOR);
+
+        assertThat(cborETag, not(equalTo(jsonETag)));
+        given()
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", CBOR)
+                .header("If-None-Match", jsonETag)
+        .when()
+                .get(ACCOUNT_ENDPOINT + NUBANK_ACCOUNT)
+        .then()
+                .statusCode(200)
+                .contentType(startsWith(CBOR));
+    }
+
+    private String etagFor(String token, String mediaType) {
+        return given()
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", mediaType)
+        .when()
+                .get(ACCOUNT_ENDPOINT + NUBANK_ACCOUNT)
+        .then()
+                .statusCode(200)
+                .header("Vary", containsString("Accept"))
+                .extract()
+                .header("ETag");
+    }
+
+    private void assertSameAccountsList(String mediaType, ObjectMapper mapper) throws IOException {
+        String token = getValidToken();
+        JsonNode json = fetch(ACCOUNTS_ENDPOINT, token, "application/json", JSON_MAPPER);
+        JsonNode binary = fetch(ACCOUNTS_ENDPOINT, token, mediaType, mapper);
+
+        assertThat(binary.path("data"), equalTo(json.path("data")));
+        assertThat(binary.path("data").get(0).has("accountNumero"), is(true));
+        assertThat(binary.path("links").path("self").asText(), equalTo(json.path("links").path("self").asText()));
+        assertThat(binary.path("meta").path("totalRecords").asLong(), equalTo(json.path("meta").path("totalRecords").asLong()));
+        assertThat(binary.path("meta").path("requestDateTime").isMissingNode(), is(false));
+    }
+
+    private JsonNode fetch(String path, String token, String mediaType, ObjectMapper mapper) throws IOException {
+        Response response = given()
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", mediaType)
+        .when()
+                .get(path)
+        .then()
+                .statusCode(200)
+                .contentType(startsWith(mediaType))
+                .extract()
+                .response();
+        return mapper.readTree(response.asByteArray());
+    }
+}
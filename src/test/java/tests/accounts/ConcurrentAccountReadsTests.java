@@ -0,0 +1,53 @@
+package tests.accounts;
+
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ConcurrentAccountReadsTests extends TestBase {
+
+    private static final String ACCOUNTS_ENDPOINT = "/account/v1/accounts";
+    private static final int CONCURRENT_READS = 200;
+
+    @Test
+    // TC001 - A burst of reads larger than the connection pool is queued and answered, not rejected
+    public void testBurstOfReadsLargerThanPoolIsAnswered() throws Exception {
+        String token = getValidToken();
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_READS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return given()
+                            .header("Authorization", "Bearer " + token)
+                    .when()
+                            .get(ACCOUNTS_ENDPOINT)
+                    .then()
+                            .extract()
+                            .statusCode();
+                }));
+            }
+            start.countDown();
+
+            List<Integer> statusCodes = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                statusCodes.add(future.get());
+            }
+            assertThat(statusCodes, everyItem(equalTo(200)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
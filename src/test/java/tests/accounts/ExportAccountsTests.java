@@ -0,0 +1,57 @@
+package tests.accounts;
+
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ExportAccountsTests extends TestBase {
+
+    private static final String EXPORT_ENDPOINT = "/account/v1/accounts/export";
+
+    @Test
+    // TC001 - Export returns one JSON document per account
+    public void testExportReturnsOneLinePerAccount() {
+        Response response = given()
+                .header("Authorization", "Bearer " + getValidToken())
+        .when()
+                .get(EXPORT_ENDPOINT)
+        .then()
+                .statusCode(200)
+                .contentType(startsWith("application/x-ndjson"))
+                .extract()
+                .response();
+
+        String[] lines = response.asString().trim().split("\n");
+        assertThat(lines.length, equalTo(2));
+        assertThat(lines[0], containsString("\"accountNumero\""));
+        assertThat(response.asString(), allOf(
+                containsString("87caf37b-f70f-440c-bacd-3b9399ca5d74"),
+                containsString("6565ab61-b27e-41e4-9ca2-f3ba83dbb669")));
+    }
+
+    @Test
+    // TC002 - Export without authorization returns error
+    public void testExportWithoutAuthorizationReturnsError() {
+        when()
+                .get(EXPORT_ENDPOINT)
+        .then()
+                .statusCode(401);
+    }
+
+    @Test
+    // TC003 - Export with a consent awaiting authorisation returns error
+    public void testExportWithConsentAwaitingAuthorisationReturnsError() {
+        given()
+                .header("Authorization", "Bearer " + generateTokenAwaitingAuthorisation())
+        .when()
+                .get(EXPORT_ENDPOINT)
+        .then()
+                .statusCode(403)
+                .body("_embedded.errors[0].message", containsString("is not in the right status"));
+    }
+}
@@ -12,6 +12,7 @@ import static org.hamcrest.Matchers.*;
 public class GetAccountByIdTests extends TestBase {
 
     private static final String ACCOUNT_ID_VALID = "87caf37b-f70f-440c-bacd-3b9399ca5d74";
+    private static final String OTHER_ACCOUNT_ID = "6565ab61-b27e-41e4-9ca2-f3ba83dbb669";
     private static final String ACCOUNT_ENDPOINT = "/account/v1/account/";
 
     @Test
@@ -261,4 +262,53 @@ public class GetAccountByIdTests extends TestBase {
                 .body("_embedded.errors[0]._links", anEmptyMap())
                 .body("_embedded.errors[0]._embedded", anEmptyMap());
     }
+
+    @Test
+    // TC014 - Request with a matching If-None-Match returns not modified
+    public void testMatchingETagReturnsNotModified() {
+        String token = getValidToken();
+
+        String etag = given()
+                .header("Authorization", "Bearer " + token)
+        .when()
+                .get(ACCOUNT_ENDPOINT + ACCOUNT_ID_VALID)
+        .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .extract()
+                .header("ETag");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag)
+        .when()
+                .get(ACCOUNT_ENDPOINT + ACCOUNT_ID_VALID)
+        .then()
+                .statusCode(304)
+                .header("ETag", equalTo(etag));
+    }
+
+    @Test
+    // TC015 - Different accounts get different ETags
+    public void testDifferentAccountsGetDifferentETags() {
+        String token = getValidToken();
+
+        String etag = given()
+                .header("Authorization", "Bearer " + token)
+        .when()
+                .get(ACCOUNT_ENDPOINT + ACCOUNT_ID_VALID)
+        .then()
+                .statusCode(200)
+                .extract()
+                .header("ETag");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag)
+        .when()
+                .get(ACCOUNT_ENDPOINT + OTHER_ACCOUNT_ID)
+        .then()
+                .statusCode(200)
+                .header("ETag", allOf(notNullValue(), not(equalTo(etag))));
+    }
 }
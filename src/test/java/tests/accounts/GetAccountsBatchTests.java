@@ -0,0 +1,85 @@
+package tests.accounts;
+
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+public class GetAccountsBatchTests extends TestBase {
+
+    private static final String BATCH_ENDPOINT = "/account/v1/accounts/batch";
+    private static final String NUBANK_ACCOUNT = "87caf37b-f70f-440c-bacd-3b9399ca5d74";
+    private static final String ITAU_ACCOUNT = "6565ab61-b27e-41e4-9ca2-f3ba83dbb669";
+    private static final String UNKNOWN_ACCOUNT = "ab535c7a-a29a-4926-884d-beff58d50db3";
+
+    @Test
+    // TC001 - Batch lookup returns found accounts and lists the missing ids
+    public void testBatchReturnsFoundAndNotFoundAccounts() {
+        given()
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + getValidToken())
+                .body("{\"data\": {\"accountIds\": [\"" + ITAU_ACCOUNT + "\", \"" + UNKNOWN_ACCOUNT + "\", \"" + NUBANK_ACCOUNT + "\"]}}")
+        .when()
+                .post(BATCH_ENDPOINT)
+        .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("data", hasSize(2))
+                .body("data.id", contains(ITAU_ACCOUNT, NUBANK_ACCOUNT))
+                .body("data.accountNumero", contains("8765432-1", "1234567-8"))
+                .body("notFound", contains(UNKNOWN_ACCOUNT))
+                .body("meta.totalRecords", equalTo(2))
+                .body("meta.totalPages", equalTo(1))
+                .body("meta.requestDateTime", notNullValue());
+    }
+
+    @Test
+    // TC002 - Batch lookup with an invalid account id returns error
+    public void testBatchWithInvalidAccountIdReturnsError() {
+        given()
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + getValidToken())
+                .body("{\"data\": {\"accountIds\": [\"INVALID_ACCOUNT_ID\"]}}")
+        .when()
+                .post(BATCH_ENDPOINT)
+        .then()
+                .statusCode(400)
+                .contentType(ContentType.JSON)
+                .body("_embedded.errors[0].message", equalTo("Invalid account id INVALID_ACCOUNT_ID"));
+    }
+
+    @Test
+    // TC003 - Batch lookup with a consent awaiting authorisation returns error
+    public void testBatchWithConsentAwaitingAuthorisationReturnsError() {
+        given()
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + generateTokenAwaitingAuthorisation())
+                .body("{\"data\": {\"accountIds\": [\"" + NUBANK_ACCOUNT + "\"]}}")
+        .when()
+                .post(BATCH_ENDPOINT)
+        .then()
+                .statusCode(403)
+                .contentType(ContentType.JSON)
+                .body("_embedded.errors[0].message", containsString("is not in the right status"));
+    }
+
+    @Test
+    // TC004 - Batch lookup where no account exists returns an empty page
+    public void testBatchWithOnlyUnknownAccountsReturnsEmptyPage() {
+        given()
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + getValidToken())
+                .body("{\"data\": {\"accountIds\": [\"" + UNKNOWN_ACCOUNT + "\"]}}")
+        .when()
+                .post(BATCH_ENDPOINT)
+        .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("data", empty())
+                .body("notFound", contains(UNKNOWN_ACCOUNT))
+                .body("meta.totalRecords", equalTo(0))
+                .body("meta.totalPages", equalTo(0));
+    }
+}
@@ -1,7 +1,7 @@
 package tests.accounts;
 
 import io.restassured.http.ContentType;
-import org.junit.jupiter.api.Tag;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
 import tests.TestBase;
 
@@ -185,7 +185,6 @@ public class GetAccountsTests extends TestBase {
     }
 
     @Test
-    @Tag("bugs")
     // TC010 - Request with an expired consent returns error
     public void testExpiredConsentReturnsError() {
         String expiredToken = generateTokenWithExpiredConsent();
@@ -203,4 +202,59 @@ public class GetAccountsTests extends TestBase {
                 .body("_embedded.errors[0]._links", anEmptyMap())
                 .body("_embedded.errors[0]._embedded", anEmptyMap());
     }
+
+    @Test
+    // TC011 - Request accounts with a page size walks the list with cursors
+    public void testPageSizeWalksAccountsWithCursors() {
+        String token = getValidToken();
+
+        Response firstPage = given()
+                .header("Authorization", "Bearer " + token)
+                .queryParam("page-size", 1)
+        .when()
+                .get(ACCOUNTS_ENDPOINT)
+        .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("data", hasSize(1))
+                .body("links.first", equalTo("localhost:8080/test-api/account/v1/accounts?page-size=1"))
+                .body("links.next", containsString("cursor="))
+                .body("links.prev", nullValue())
+                .body("links.last", containsString("cursor="))
+                .body("meta.totalRecords", equalTo(2))
+                .body("meta.totalPages", equalTo(2))
+                .extract()
+                .response();
+
+        String nextCursor = firstPage.<String>path("links.next").split("cursor=")[1];
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .queryParam("page-size", 1)
+                .queryParam("cursor", nextCursor)
+        .when()
+                .get(ACCOUNTS_ENDPOINT)
+        .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("data", hasSize(1))
+                .body("data[0].id", not(equalTo(firstPage.path("data[0].id"))))
+                .body("links.next", nullValue())
+                .body("links.prev", containsString("cursor="))
+                .body("meta.totalRecords", nullValue());
+    }
+
+    @Test
+    // TC012 - Request accounts with an invalid cursor returns error
+    public void testInvalidCursorReturnsError() {
+        given()
+                .header("Authorization", "Bearer " + getValidToken())
+                .queryParam("cursor", "not-a-cursor")
+        .when()
+                .get(ACCOUNTS_ENDPOINT)
+        .then()
+                .statusCode(400)
+                .contentType(ContentType.JSON)
+                .body("_embedded.errors[0].message", equalTo("Invalid cursor not-a-cursor"));
+    }
 }
@@ -0,0 +1,101 @@
+package tests.accounts;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * JDBC driver for {@code jdbc:slow:<millis>:<url>} that makes every statement execution on the underlying
+ * driver's connections take at least {@code millis} longer. The delay is spent holding the connection's
+ * monitor, the way drivers block on socket I/O inside synchronized code, so it pins virtual threads too.
+ */
+public class SlowDatabaseDriver implements Driver {
+
+    public static final String PREFIX = "jdbc:slow:";
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        String rest = url.substring(PREFIX.length());
+        int separator = rest.indexOf(':');
+        long delayMillis = Long.parseLong(rest.substring(0, separator));
+        String target = "jdbc:" + rest.substring(separator + 1);
+        Connection connection = DriverManager.getDriver(target).connect(target, info);
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = method.invoke(connection, args);
+            return result instanceof Statement statement ? slowStatement(connection, statement, delayMillis) : result;
+        });
+    }
+
+    private static Statement slowStatement(Connection connection, Statement statement, long delayMillis) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(type, statement, (method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                synchronized (connection) {
+                    Thread.sleep(delayMillis);
+                    return method.invoke(statement, args);
+                }
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, T target, Call call) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            try {
+                return call.invoke(method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private interface Call {
+        Object invoke(Method method, Object[] args) throws Exception;
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+}
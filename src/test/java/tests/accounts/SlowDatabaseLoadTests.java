@@ -0,0 +1,128 @@
+package tests.accounts;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.example.Application;
+import org.example.domain.entities.Consent;
+import org.example.domain.entities.EnumConsentPermissions;
+import org.example.domain.entities.EnumConsentStatus;
+import org.example.execution.ConnectionPermits;
+import org.example.repositories.ConsentRepository;
+import org.example.util.UuidV7;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Tag("performance")
+public class SlowDatabaseLoadTests extends TestBase {
+
+    private static final int STATEMENT_DELAY_MILLIS = 20;
+    private static final int CLIENTS = 100;
+    private static final int REQUESTS = 400;
+
+    @Test
+    // Platform and virtual request threads both answer a burst against a database slowed inside synchronized driver code
+    public void testPlatformAndVirtualThreadsUnderSlowDatabase() throws Exception {
+        Load platform = run(new String[]{Application.persistenceEnvironment()});
+        report("platform", platform);
+        assertThat(platform.statusCodes(), everyItem(equalTo(200)));
+
+        if (Runtime.version().feature() < 21) {
+            System.out.println("virtual threads: skipped, this runtime is Java " + Runtime.version().feature());
+            return;
+        }
+        Load virtual = run(new String[]{Application.persistenceEnvironment(), "virtual-threads"});
+        report("virtual", virtual);
+        assertThat(virtual.statusCodes(), everyItem(equalTo(200)));
+        assertThat(virtual.permits(), lessThanOrEqualTo(Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors())));
+    }
+
+    private static Load run(String[] environments) throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("micronaut.server.port", -1);
+        config.put("datasources.default.url", SlowDatabaseDriver.PREFIX + STATEMENT_DELAY_MILLIS + ":h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.put("datasources.default.driverClassName", SlowDatabaseDriver.class.getName());
+        config.put("test-api.consent-sweeper.enabled", "false");
+        // Long enough that the burst measures queueing, not 503s
+        config.put("test-api.db-bulkhead.acquire-timeout", "60s");
+        try (EmbeddedServer server = ApplicationContext.run(EmbeddedServer.class, config, environments)) {
+            String token = generateJwtToken("accounts", authorisedConsent(server.getApplicationContext()));
+            String url = server.getURL() + "/test-api/account/v1/accounts";
+
+            ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                List<Future<long[]>> futures = new ArrayList<>();
+                for (int i = 0; i < REQUESTS; i++) {
+                    futures.add(clients.submit(() -> {
+                        start.await();
+                        long started = System.nanoTime();
+                        int statusCode = given()
+                                .header("Authorization", "Bearer " + token)
+                        .when()
+                                .get(url)
+                        .then()
+                                .extract()
+                                .statusCode();
+                        return new long[]{statusCode, (System.nanoTime() - started) / 1_000_000};
+                    }));
+                }
+                long started = System.nanoTime();
+                start.countDown();
+
+                List<Integer> statusCodes = new ArrayList<>();
+                long[] latencies = new long[REQUESTS];
+                for (int i = 0; i < REQUESTS; i++) {
+                    long[] outcome = futures.get(i).get();
+                    statusCodes.add((int) outcome[0]);
+                    latencies[i] = outcome[1];
+                }
+                long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+                Arrays.sort(latencies);
+                return new Load(statusCodes, elapsedMillis, latencies[REQUESTS / 2], latencies[(int) (REQUESTS * 0.99)],
+                        server.getApplicationContext().getBean(ConnectionPermits.class).maxConcurrent());
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    private static String authorisedConsent(ApplicationContext context) {
+        Consent consent = new Consent();
+        consent.setId("urn:bank:" + UuidV7.next());
+        consent.setClientId("client1");
+        consent.setStatus(EnumConsentStatus.AUTHORISED);
+        consent.setConsentPermissions(EnumConsentPermissions.ACCOUNTS_READ);
+        consent.setCreationDateTime(LocalDateTime.now());
+        consent.setStatusUpdateDateTime(LocalDateTime.now());
+        consent.setExpirationDateTime(LocalDateTime.now().plusDays(1));
+        return context.getBean(ConsentRepository.class).save(consent).getId();
+    }
+
+    // Printed rather than logged, like the other benchmarks: stdout is the report
+    private static void report(String threads, Load load) {
+        System.out.printf("%s threads, %d ms per statement: %d requests in %d ms (%.1f req/s), p50 %d ms, p99 %d ms, %d bulkhead permits%n",
+                threads, STATEMENT_DELAY_MILLIS, REQUESTS, load.elapsedMillis(), REQUESTS * 1000.0 / load.elapsedMillis(),
+                load.p50Millis(), load.p99Millis(), load.permits());
+    }
+
+    private record Load(List<Integer> statusCodes, long elapsedMillis, long p50Millis, long p99Millis, int permits) {
+    }
+}
@@ -0,0 +1,26 @@
+package tests.consents;
+
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CreateConsentTests extends TestBase {
+
+    private static final String TIME_ORDERED_CONSENT_ID = "urn:bank:[0-9a-f]{8}-[0-9a-f]{4}-7[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}";
+
+    @Test
+    // TC001 - Consent ids are time-ordered and keep the urn:bank: prefix
+    public void testConsentIdsAreTimeOrdered() {
+        String token = generateConsentToken();
+        String firstConsentId = createAccountConsent(token, LocalDateTime.now().plusDays(1));
+        String secondConsentId = createAccountConsent(token, LocalDateTime.now().plusDays(1));
+
+        assertThat(firstConsentId, matchesPattern(TIME_ORDERED_CONSENT_ID));
+        assertThat(secondConsentId, matchesPattern(TIME_ORDERED_CONSENT_ID));
+        assertThat(secondConsentId, greaterThan(firstConsentId));
+    }
+}
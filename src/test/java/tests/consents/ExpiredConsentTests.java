@@ -0,0 +1,124 @@
+package tests.consents;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import org.example.Application;
+import org.example.domain.entities.Consent;
+import org.example.domain.entities.EnumConsentPermissions;
+import org.example.domain.entities.EnumConsentStatus;
+import org.example.repositories.ConsentRepository;
+import org.example.services.ConsentAuthorisationCache;
+import org.example.services.ExpiredConsentSweeper;
+import org.example.util.UuidV7;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExpiredConsentTests {
+
+    private static ApplicationContext context;
+    private static ConsentRepository consents;
+
+    @BeforeAll
+    public static void start() {
+        // In this JVM, on its own in-memory database, with the schedule pushed out so only the test sweeps
+        context = ApplicationContext.run(Map.of(
+                "datasources.default.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "test-api.consent-sweeper.interval", "1h"), Application.persistenceEnvironment());
+        consents = context.getBean(ConsentRepository.class);
+    }
+
+    @AfterAll
+    public static void stop() {
+        context.close();
+    }
+
+    @Test
+    // TC001 - An authorised consent past its expiration is refused with 403 Consent expired
+    public void testExpiredConsentIsForbidden() {
+        String consentId = save(EnumConsentStatus.AUTHORISED, LocalDateTime.now().minusMinutes(1));
+
+        HttpStatusException error = assertThrows(HttpStatusException.class, () -> validate(consentId));
+
+        assertThat(error.getStatus(), equalTo(HttpStatus.FORBIDDEN));
+        assertThat(error.getMessage(), equalTo("Consent expired"));
+    }
+
+    @Test
+    // TC002 - The sweeper rejects expired consents, leaves live ones alone, and they still report expiry
+    public void testSweeperRejectsOnlyExpiredConsents() {
+        String expiredId = save(EnumConsentStatus.AUTHORISED, LocalDateTime.now().minusMinutes(1));
+        String awaitingId = save(EnumConsentStatus.AWAITING_AUTHORISATION, LocalDateTime.now().minusMinutes(1));
+        String liveId = save(EnumConsentStatus.AUTHORISED, LocalDateTime.now().plusDays(1));
+        ExpiredConsentSweeper sweeper = context.getBean(ExpiredConsentSweeper.class);
+
+        sweeper.sweep();
+
+        assertThat(statusOf(expiredId), equalTo(EnumConsentStatus.REJECTED));
+        assertThat(statusOf(awaitingId), equalTo(EnumConsentStatus.REJECTED));
+        assertThat(statusOf(liveId), equalTo(EnumConsentStatus.AUTHORISED));
+        assertThat(sweeper.stats().get("total-rejected"), greaterThanOrEqualTo(2L));
+        HttpStatusException error = assertThrows(HttpStatusException.class, () -> validate(expiredId));
+        assertThat(error.getMessage(), equalTo("Consent expired"));
+    }
+
+    @Test
+    // TC003 - Each sweep rejects at most one batch and the next sweep carries on where it stopped
+    public void testSweepRejectsOneBatchPerRun() {
+        try (ApplicationContext batched = ApplicationContext.run(Map.of(
+                "datasources.default.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "test-api.consent-sweeper.interval", "1h",
+                "test-api.consent-sweeper.batch-size", "2"), Application.persistenceEnvironment())) {
+            ConsentRepository repository = batched.getBean(ConsentRepository.class);
+            List<String> expiredIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                expiredIds.add(save(repository, EnumConsentStatus.AUTHORISED, LocalDateTime.now().minusMinutes(1)));
+            }
+            ExpiredConsentSweeper sweeper = batched.getBean(ExpiredConsentSweeper.class);
+
+            sweeper.sweep();
+            assertThat(sweeper.stats().get("last-run-rejected"), equalTo(2L));
+
+            sweeper.sweep();
+            assertThat(sweeper.stats().get("last-run-rejected"), equalTo(1L));
+            for (String id : expiredIds) {
+                assertThat(repository.findById(id).orElseThrow().getStatus(), equalTo(EnumConsentStatus.REJECTED));
+            }
+        }
+    }
+
+    private static void validate(String consentId) {
+        context.getBean(ConsentAuthorisationCache.class).validate(consentId, EnumConsentPermissions.ACCOUNTS_READ);
+    }
+
+    private static EnumConsentStatus statusOf(String consentId) {
+        return consents.findById(consentId).orElseThrow().getStatus();
+    }
+
+    private static String save(EnumConsentStatus status, LocalDateTime expiration) {
+        return save(consents, status, expiration);
+    }
+
+    private static String save(ConsentRepository repository, EnumConsentStatus status, LocalDateTime expiration) {
+        Consent consent = new Consent();
+        consent.setId("urn:bank:" + UuidV7.next());
+        consent.setClientId("client1");
+        consent.setStatus(status);
+        consent.setConsentPermissions(EnumConsentPermissions.ACCOUNTS_READ);
+        consent.setCreationDateTime(LocalDateTime.now().minusDays(1));
+        consent.setStatusUpdateDateTime(LocalDateTime.now().minusDays(1));
+        consent.setExpirationDateTime(expiration);
+        return repository.save(consent).getId();
+    }
+}
@@ -0,0 +1,68 @@
+package tests.consents;
+
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.time.LocalDateTime;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+public class GetConsentTests extends TestBase {
+
+    private static final String CONSENTS_ENDPOINT = "/consents/v1/consents/";
+
+    @Test
+    // TC001 - Request with a matching If-None-Match returns not modified
+    public void testMatchingETagReturnsNotModified() {
+        String token = generateConsentToken();
+        String consentId = createAccountConsent(token, LocalDateTime.now().plusDays(1));
+
+        String etag = given()
+                .header("Authorization", "Bearer " + token)
+        .when()
+                .get(CONSENTS_ENDPOINT + consentId)
+        .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .extract()
+                .header("ETag");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag)
+        .when()
+                .get(CONSENTS_ENDPOINT + consentId)
+        .then()
+                .statusCode(304)
+                .header("ETag", equalTo(etag));
+    }
+
+    @Test
+    // TC002 - A status change gives the consent a new ETag
+    public void testStatusChangeChangesETag() {
+        String token = generateConsentToken();
+        String consentId = createAccountConsent(token, LocalDateTime.now().plusDays(1));
+
+        String etag = given()
+                .header("Authorization", "Bearer " + token)
+        .when()
+                .get(CONSENTS_ENDPOINT + consentId)
+        .then()
+                .statusCode(200)
+                .extract()
+                .header("ETag");
+
+        updateConsentStatus(consentId, token, "AUTHORISED");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag)
+        .when()
+                .get(CONSENTS_ENDPOINT + consentId)
+        .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(etag)))
+                .body("data.status", equalTo("AUTHORISED"));
+    }
+}
@@ -0,0 +1,108 @@
+package tests.consents;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+public class ListConsentsTests extends TestBase {
+
+    private static final String CONSENTS_ENDPOINT = "/consents/v1/consents";
+    private static final DateTimeFormatter QUERY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    @Test
+    // TC001 - Listing consents within an expiry window walks the pages with cursors
+    public void testListConsentsWalksExpiryWindowWithCursors() {
+        String token = generateConsentToken();
+        // A window no other test creates consents in, so the listing only sees these three
+        LocalDateTime windowStart = LocalDateTime.now().plusDays(100)
+                .plusSeconds(ThreadLocalRandom.current().nextInt(0, 100 * 24 * 3600))
+                .truncatedTo(ChronoUnit.SECONDS);
+        String first = createAccountConsent(token, windowStart);
+        String second = createAccountConsent(token, windowStart.plusSeconds(1));
+        String third = createAccountConsent(token, windowStart.plusSeconds(2));
+
+        Response firstPage = given()
+                .header("Authorization", "Bearer " + token)
+                .queryParam("expires-after", QUERY_FORMAT.format(windowStart))
+                .queryParam("expires-before", QUERY_FORMAT.format(windowStart.plusSeconds(3)))
+                .queryParam("page-size", 2)
+        .when()
+                .get(CONSENTS_ENDPOINT)
+        .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("data.consentId", contains(first, second))
+                .body("data.status", everyItem(equalTo("AWAITING_AUTHORISATION")))
+                .body("links.next", containsString("expires-after="))
+                .body("links.next", containsString("cursor="))
+                .body("links.prev", nullValue())
+                .body("meta.requestDateTime", notNullValue())
+                .extract()
+                .response();
+
+        String nextCursor = firstPage.<String>path("links.next").split("cursor=")[1];
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .queryParam("expires-after", QUERY_FORMAT.format(windowStart))
+                .queryParam("expires-before", QUERY_FORMAT.format(windowStart.plusSeconds(3)))
+                .queryParam("page-size", 2)
+                .queryParam("cursor", nextCursor)
+        .when()
+                .get(CONSENTS_ENDPOINT)
+        .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("data.consentId", contains(third))
+                .body("links.next", nullValue())
+                .body("links.prev", containsString("cursor="));
+    }
+
+    @Test
+    // TC002 - Listing consents filtered by status only returns that status
+    public void testListConsentsFilteredByStatus() {
+        String token = generateConsentToken();
+        LocalDateTime expiration = LocalDateTime.now().plusDays(100)
+                .plusSeconds(ThreadLocalRandom.current().nextInt(0, 100 * 24 * 3600))
+                .truncatedTo(ChronoUnit.SECONDS);
+        String awaiting = createAccountConsent(token, expiration);
+        String authorised = createAccountConsent(token, expiration);
+        updateConsentStatus(authorised, token, "AUTHORISED");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .queryParam("status", "AUTHORISED")
+                .queryParam("expires-after", QUERY_FORMAT.format(expiration))
+                .queryParam("expires-before", QUERY_FORMAT.format(expiration.plusSeconds(1)))
+        .when()
+                .get(CONSENTS_ENDPOINT)
+        .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("data.consentId", contains(authorised))
+                .body("data.consentId", not(hasItem(awaiting)));
+    }
+
+    @Test
+    // TC003 - Listing consents with an unknown status returns error
+    public void testListConsentsWithInvalidStatusReturnsError() {
+        given()
+                .header("Authorization", "Bearer " + generateConsentToken())
+                .queryParam("status", "UNKNOWN")
+        .when()
+                .get(CONSENTS_ENDPOINT)
+        .then()
+                .statusCode(400)
+                .contentType(ContentType.JSON)
+                .body("_embedded.errors[0].message", equalTo("Invalid status UNKNOWN"));
+    }
+}
@@ -0,0 +1,59 @@
+package tests.consents;
+
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+public class ResponseCompressionTests extends TestBase {
+
+    private static final String CONSENTS_ENDPOINT = "/consents/v1/consents";
+    private static final DateTimeFormatter QUERY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    @Test
+    // TC001 - A large listing is gzip compressed when the client accepts it
+    public void testLargeListingIsCompressed() {
+        String token = generateConsentToken();
+        LocalDateTime expiration = LocalDateTime.now().plusDays(100)
+                .plusSeconds(ThreadLocalRandom.current().nextInt(0, 100 * 24 * 3600))
+                .truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 0; i < 8; i++) {
+            createAccountConsent(token, expiration);
+        }
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "gzip")
+                .queryParam("expires-after", QUERY_FORMAT.format(expiration))
+                .queryParam("expires-before", QUERY_FORMAT.format(expiration.plusSeconds(1)))
+        .when()
+                .get(CONSENTS_ENDPOINT)
+        .then()
+                .statusCode(200)
+                .header("Content-Encoding", equalTo("gzip"))
+                .body("data", hasSize(8));
+    }
+
+    @Test
+    // TC002 - A small response below the threshold is not compressed
+    public void testSmallResponseIsNotCompressed() {
+        String token = generateConsentToken();
+        String consentId = createAccountConsent(token, LocalDateTime.now().plusDays(1));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .header("Accept-Encoding", "gzip")
+        .when()
+                .get(CONSENTS_ENDPOINT + "/" + consentId)
+        .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body("data.consentId", equalTo(consentId));
+    }
+}
@@ -0,0 +1,86 @@
+package tests.consents;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * JDBC driver for {@code jdbc:counting:<url>} that hands out the underlying driver's connections and
+ * counts the statements prepared on them by the thread running {@link #count(Runnable)}.
+ */
+public class StatementCountingDriver implements Driver {
+
+    public static final String PREFIX = "jdbc:counting:";
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    public static int count(Runnable action) {
+        int[] counter = new int[1];
+        COUNTER.set(counter);
+        try {
+            action.run();
+        } finally {
+            COUNTER.remove();
+        }
+        return counter[0];
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        String target = "jdbc:" + url.substring(PREFIX.length());
+        Connection connection = DriverManager.getDriver(target).connect(target, info);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            int[] counter = COUNTER.get();
+            if (counter != null && STATEMENT_METHODS.contains(method.getName())) {
+                counter[0]++;
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+}
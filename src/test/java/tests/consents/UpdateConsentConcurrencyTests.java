@@ -0,0 +1,97 @@
+package tests.consents;
+
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class UpdateConsentConcurrencyTests extends TestBase {
+
+    private static final int CONCURRENT_UPDATES = 200;
+
+    @Test
+    // TC001 - Concurrent rejections of the same consent succeed exactly once
+    public void testConcurrentRejectionsSucceedExactlyOnce() throws Exception {
+        String token = generateConsentToken();
+        String consentId = createAccountConsent(token, LocalDateTime.now().plusDays(1));
+
+        List<Outcome> outcomes = fireConcurrentUpdates(consentId, token, i -> "REJECTED");
+
+        assertThat(outcomes.stream().filter(o -> o.statusCode() == 200).count(), equalTo(1L));
+        assertThat(outcomes.stream().map(Outcome::statusCode).toList(), everyItem(anyOf(equalTo(200), equalTo(400), equalTo(409))));
+        assertFinalStatus(consentId, token, "REJECTED");
+    }
+
+    @Test
+    // TC002 - Concurrent mixed updates never lose an accepted rejection
+    public void testConcurrentMixedUpdatesKeepAcceptedRejection() throws Exception {
+        String token = generateConsentToken();
+        String consentId = createAccountConsent(token, LocalDateTime.now().plusDays(1));
+
+        List<Outcome> outcomes = fireConcurrentUpdates(consentId, token, i -> i % 2 == 0 ? "AUTHORISED" : "REJECTED");
+
+        assertThat(outcomes.stream().map(Outcome::statusCode).toList(), everyItem(anyOf(equalTo(200), equalTo(400), equalTo(409))));
+        long acceptedRejections = outcomes.stream()
+                .filter(o -> o.statusCode() == 200 && o.status().equals("REJECTED"))
+                .count();
+        assertThat(acceptedRejections, lessThanOrEqualTo(1L));
+        assertFinalStatus(consentId, token, acceptedRejections == 1 ? "REJECTED" : "AUTHORISED");
+    }
+
+    private List<Outcome> fireConcurrentUpdates(String consentId, String token, IntFunction<String> statusFor) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_UPDATES; i++) {
+                String status = statusFor.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int statusCode = given()
+                            .header("Content-Type", "application/json")
+                            .header("Authorization", "Bearer " + token)
+                            .body("{\"data\": {\"status\": \"" + status + "\"}}")
+                    .when()
+                            .put("/consents/v1/consents/" + consentId)
+                    .then()
+                            .extract()
+                            .statusCode();
+                    return new Outcome(status, statusCode);
+                }));
+            }
+            start.countDown();
+
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertFinalStatus(String consentId, String token, String expectedStatus) {
+        given()
+                .header("Authorization", "Bearer " + token)
+        .when()
+                .get("/consents/v1/consents/" + consentId)
+        .then()
+                .statusCode(200)
+                .body("data.status", equalTo(expectedStatus));
+    }
+
+    private record Outcome(String status, int statusCode) {
+    }
+}
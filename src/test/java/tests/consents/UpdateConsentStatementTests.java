@@ -0,0 +1,106 @@
+package tests.consents;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+import org.example.Application;
+import org.example.domain.entities.Consent;
+import org.example.domain.entities.EnumConsentPermissions;
+import org.example.domain.entities.EnumConsentStatus;
+import org.example.domain.payloads.UpdateConsent;
+import org.example.domain.payloads.UpdateConsentData;
+import org.example.domain.responses.ResponseConsent;
+import org.example.repositories.ConsentRepository;
+import org.example.services.ConsentService;
+import org.example.util.UuidV7;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UpdateConsentStatementTests {
+
+    private static ApplicationContext context;
+    private static ConsentRepository consents;
+    private static ConsentService service;
+
+    @BeforeAll
+    public static void start() {
+        // In this JVM, on its own in-memory database reached through the counting driver
+        context = ApplicationContext.run(Map.of(
+                "datasources.default.url", StatementCountingDriver.PREFIX + "h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "datasources.default.driverClassName", StatementCountingDriver.class.getName(),
+                "test-api.consent-sweeper.enabled", "false"), Application.persistenceEnvironment());
+        consents = context.getBean(ConsentRepository.class);
+        service = context.getBean(ConsentService.class);
+    }
+
+    @AfterAll
+    public static void stop() {
+        context.close();
+    }
+
+    @Test
+    // TC001 - Authorising a consent takes a single statement and answers with what it wrote
+    public void testStatusChangeIsOneStatement() {
+        String consentId = save(EnumConsentStatus.AWAITING_AUTHORISATION, LocalDateTime.now().plusDays(1));
+        ResponseConsent[] response = new ResponseConsent[1];
+
+        int statements = StatementCountingDriver.count(() -> response[0] = service.updateConsent(consentId, update("AUTHORISED")));
+
+        assertThat(statements, equalTo(1));
+        assertThat(response[0].getData().getConsentId(), equalTo(consentId));
+        assertThat(response[0].getData().getStatus(), equalTo("AUTHORISED"));
+        assertThat(response[0].getData().getStatusUpdateDateTime(), notNullValue());
+        Consent stored = consents.findById(consentId).orElseThrow();
+        assertThat(stored.getStatus(), equalTo(EnumConsentStatus.AUTHORISED));
+        assertThat(stored.getVersion(), equalTo(1L));
+    }
+
+    @Test
+    // TC002 - A refused change reads the consent once more to answer 400, 400 or 404
+    public void testRefusedChangesAreClassifiedWithOneRead() {
+        String rejectedId = save(EnumConsentStatus.REJECTED, LocalDateTime.now().plusDays(1));
+        String expiredId = save(EnumConsentStatus.AUTHORISED, LocalDateTime.now().minusMinutes(1));
+
+        assertRefused(rejectedId, HttpStatus.BAD_REQUEST, "Consent already Rejected");
+        assertRefused(expiredId, HttpStatus.BAD_REQUEST, "Consent expired");
+        assertRefused("urn:bank:" + UuidV7.next(), HttpStatus.NOT_FOUND, null);
+    }
+
+    private static void assertRefused(String consentId, HttpStatus status, String message) {
+        HttpStatusException[] error = new HttpStatusException[1];
+
+        int statements = StatementCountingDriver.count(() ->
+                error[0] = assertThrows(HttpStatusException.class, () -> service.updateConsent(consentId, update("AUTHORISED"))));
+
+        assertThat(statements, equalTo(2));
+        assertThat(error[0].getStatus(), equalTo(status));
+        if (message != null) {
+            assertThat(error[0].getMessage(), equalTo(message));
+        }
+    }
+
+    private static UpdateConsent update(String status) {
+        return new UpdateConsent(new UpdateConsentData(status));
+    }
+
+    private static String save(EnumConsentStatus status, LocalDateTime expiration) {
+        Consent consent = new Consent();
+        consent.setId("urn:bank:" + UuidV7.next());
+        consent.setClientId("client1");
+        consent.setStatus(status);
+        consent.setConsentPermissions(EnumConsentPermissions.ACCOUNTS_READ);
+        consent.setCreationDateTime(LocalDateTime.now().minusDays(1));
+        consent.setStatusUpdateDateTime(LocalDateTime.now().minusDays(1));
+        consent.setExpirationDateTime(expiration);
+        return consents.save(consent).getId();
+    }
+}
@@ -0,0 +1,100 @@
+package tests.count;
+
+import io.micronaut.context.ApplicationContext;
+import org.example.Application;
+import org.example.domain.entities.Account;
+import org.example.repositories.AccountRepository;
+import org.example.services.count.AccountCountProvider;
+import org.example.services.count.CachedAccountCountProvider;
+import org.example.services.count.EstimatedAccountCountProvider;
+import org.example.services.count.ExactAccountCountProvider;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AccountCountProviderTests {
+
+    @Test
+    // TC001 - Saving an account invalidates the cached total count
+    public void testSavingAnAccountInvalidatesCachedCount() {
+        try (ApplicationContext context = start(Map.of("test-api.total-count.mode", "cached", "test-api.total-count.ttl", "1h"))) {
+            AccountCountProvider counts = context.getBean(AccountCountProvider.class);
+            assertThat(counts, instanceOf(CachedAccountCountProvider.class));
+            long before = counts.count();
+
+            context.getBean(AccountRepository.class).save(newAccount());
+
+            assertThat(counts.count(), equalTo(before + 1));
+        }
+    }
+
+    @Test
+    // TC002 - Exact mode counts the seeded accounts and sees a save straight away
+    public void testExactModeCountsEveryCall() {
+        try (ApplicationContext context = start(Map.of("test-api.total-count.mode", "exact"))) {
+            AccountCountProvider counts = context.getBean(AccountCountProvider.class);
+            assertThat(counts, instanceOf(ExactAccountCountProvider.class));
+            assertThat(counts.count(), equalTo(2L));
+
+            context.getBean(AccountRepository.class).save(newAccount());
+
+            assertThat(counts.count(), equalTo(3L));
+        }
+    }
+
+    @Test
+    // TC003 - Estimate mode answers from the database estimate rather than counting
+    public void testEstimateModeReadsTheEstimate() {
+        try (ApplicationContext context = start(Map.of("test-api.total-count.mode", "estimate"))) {
+            AccountCountProvider counts = context.getBean(AccountCountProvider.class);
+            assertThat(counts, instanceOf(EstimatedAccountCountProvider.class));
+
+            OptionalLong estimate = ((EstimatedAccountCountProvider) counts).estimate();
+
+            assertThat(estimate.isPresent(), is(true));
+            assertThat(counts.count(), equalTo(estimate.getAsLong()));
+        }
+    }
+
+    @Test
+    // TC004 - An unknown mode fails startup naming the property and the valid modes
+    public void testUnknownModeFailsStartupClearly() {
+        RuntimeException error = assertThrows(RuntimeException.class, () -> start(Map.of("test-api.total-count.mode", "approximate")).close());
+
+        assertThat(messages(error), containsString("Unknown test-api.total-count.mode 'approximate', expected one of [exact, cached, estimate]"));
+    }
+
+    private static String messages(Throwable error) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            messages.append(cause.getMessage()).append('\n');
+        }
+        return messages.toString();
+    }
+
+    // Runs the application context in this JVM on the backend CI selected, against its own in-memory database
+    private static ApplicationContext start(Map<String, Object> properties) {
+        Map<String, Object> config = new HashMap<>(properties);
+        config.put("datasources.default.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.put("test-api.consent-sweeper.enabled", "false");
+        return ApplicationContext.run(config, Application.persistenceEnvironment());
+    }
+
+    private static Account newAccount() {
+        Account account = new Account();
+        account.setId(UUID.randomUUID());
+        account.setBank("Test Bank");
+        account.setAccountNumber("0000000-0");
+        account.setCreationDateTime(LocalDateTime.now());
+        account.setStatusUpdateDateTime(LocalDateTime.now());
+        return account;
+    }
+}
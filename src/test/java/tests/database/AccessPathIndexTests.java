@@ -0,0 +1,157 @@
+package tests.database;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Tag("performance")
+public class AccessPathIndexTests {
+
+    private static final int ROWS = 1_000_000;
+    private static final int LOOKUPS = 200;
+    private static final long LOOKUP_BUDGET_MICROS = 20_000;
+
+    private static Path dir;
+    private static Connection connection;
+
+    @BeforeAll
+    public static void seed() throws Exception {
+        // Run the real migrations against a throwaway file database so 1M rows don't sit on the test heap
+        dir = Files.createTempDirectory("access-path-index-tests");
+        String url = "jdbc:h2:file:" + dir.resolve("db").toAbsolutePath();
+        Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration").load().migrate();
+
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("insert into accounts(id, bank, account_number) " +
+                    "select random_uuid(), 'Bank ' || mod(x, 50), cast(x as varchar) from system_range(1, " + ROWS + ")");
+            statement.execute("insert into consents(id, client_id, status, consent_permission, creation_date_time, status_update_date_time, expiration_date_time) " +
+                    "select 'urn:bank:' || x, 'client' || mod(x, 1000), " +
+                    "case mod(x, 3) when 0 then 'AUTHORISED' when 1 then 'REJECTED' else 'AWAITING_AUTHORISATION' end, " +
+                    "'ACCOUNTS_READ', localtimestamp, localtimestamp, dateadd('DAY', mod(x, 365) - 100, localtimestamp) " +
+                    "from system_range(1, " + ROWS + ")");
+            statement.execute("analyze");
+        }
+    }
+
+    @AfterAll
+    public static void close() throws SQLException, IOException {
+        if (connection != null) {
+            connection.close();
+        }
+        if (dir != null) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Test
+    // Account lookup by id uses the primary key
+    public void testAccountLookupByIdUsesIndex() throws SQLException {
+        String accountId;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select id from accounts offset " + ROWS / 2 + " rows fetch first row only")) {
+            resultSet.next();
+            accountId = resultSet.getString(1);
+        }
+        String sql = "select id, bank, account_number from accounts where id = cast(? as uuid)";
+
+        assertNoTableScan(sql, accountId);
+        assertWithinBudget(sql, accountId);
+    }
+
+    @Test
+    // Consent lookup by id uses the primary key
+    public void testConsentLookupByIdUsesIndex() throws SQLException {
+        String sql = "select consent_permission, status, expiration_date_time from consents where id = ?";
+
+        assertNoTableScan(sql, "urn:bank:" + ROWS / 2);
+        assertWithinBudget(sql, "urn:bank:" + ROWS / 2);
+    }
+
+    @Test
+    // Listing a client's consents, as ConsentRepository.listAfter does, seeks the listing index and filters on its entries
+    public void testConsentListingByClientUsesIndex() throws SQLException {
+        String sql = "select * from consents where client_id = ? and status in (?, ?) " +
+                "and expiration_date_time >= ? and expiration_date_time < ? " +
+                "and (creation_date_time, id) > (?, ?) " +
+                "order by creation_date_time asc, id asc fetch first 26 rows only";
+        Object[] parameters = {"client42", "AUTHORISED", "AWAITING_AUTHORISATION",
+                LocalDateTime.now(), LocalDateTime.now().plusYears(1), LocalDateTime.of(1970, 1, 1, 0, 0), ""};
+
+        assertUsesIndex(sql, "IDX_CONSENTS_CLIENT_LISTING", parameters);
+        assertNoTableScan(sql, parameters);
+        assertWithinBudget(sql, parameters);
+    }
+
+    @Test
+    // Expired consent lookup by status and expiration uses the composite index
+    public void testExpiredConsentLookupUsesIndex() throws SQLException {
+        String sql = "select id from consents where status = ? and expiration_date_time < localtimestamp fetch first 500 rows only";
+
+        assertNoTableScan(sql, "AUTHORISED");
+        assertWithinBudget(sql, "AUTHORISED");
+    }
+
+    private static void assertUsesIndex(String sql, String index, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            bind(statement, parameters);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                assertThat(resultSet.getString(1), containsString(index));
+            }
+        }
+    }
+
+    private static void assertNoTableScan(String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            bind(statement, parameters);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                assertThat(resultSet.getString(1), not(containsString("tableScan")));
+            }
+        }
+    }
+
+    private static void assertWithinBudget(String sql, Object... parameters) throws SQLException {
+        long[] timings = new long[LOOKUPS];
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            bind(statement, parameters);
+            for (int i = 0; i < LOOKUPS; i++) {
+                long start = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getString(1);
+                    }
+                }
+                timings[i] = (System.nanoTime() - start) / 1_000;
+            }
+        }
+        Arrays.sort(timings);
+        long p99 = timings[(int) (LOOKUPS * 0.99) - 1];
+        assertThat("p99 lookup time in micros for: " + sql, p99, lessThan(LOOKUP_BUDGET_MICROS));
+    }
+
+    private static void bind(PreparedStatement statement, Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+    }
+}
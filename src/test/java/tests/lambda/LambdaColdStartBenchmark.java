@@ -0,0 +1,43 @@
+package tests.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import io.restassured.path.json.JsonPath;
+import org.example.LambdaHandler;
+import tests.TestBase;
+
+import java.util.Arrays;
+
+/**
+ * Reports the time to the first answered Lambda invocation, context bootstrap and priming included,
+ * and the latency of warm invocations after it. Run through {@code ./gradlew lambdaBenchmark}, which
+ * the startup benchmark script calls.
+ */
+public class LambdaColdStartBenchmark extends TestBase {
+
+    public static void main(String[] args) {
+        int warmInvocations = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        long coldStarted = System.nanoTime();
+        try (LambdaHandler handler = new LambdaHandler()) {
+            String consentToken = generateConsentToken();
+            APIGatewayProxyResponseEvent created = handler.handleRequest(LambdaHandlerTests.createConsentEvent(consentToken), new StubContext());
+            long coldMillis = (System.nanoTime() - coldStarted) / 1_000_000;
+
+            String consentId = JsonPath.from(created.getBody()).getString("data.consentId");
+            handler.handleRequest(LambdaHandlerTests.event("PUT", "/test-api/consents/v1/consents/" + consentId, consentToken,
+                    "{\"data\": {\"status\": \"AUTHORISED\"}}"), new StubContext());
+            String accountsToken = generateJwtToken("accounts", consentId);
+
+            long[] warmMicros = new long[warmInvocations];
+            for (int i = 0; i < warmInvocations; i++) {
+                long started = System.nanoTime();
+                handler.handleRequest(LambdaHandlerTests.event("GET", "/test-api/account/v1/accounts", accountsToken, null), new StubContext());
+                warmMicros[i] = (System.nanoTime() - started) / 1_000;
+            }
+            Arrays.sort(warmMicros);
+            // Printed rather than logged: stdout is this tool's report, and the async log appenders may drop it at exit
+            System.out.printf("lambda cold start + first invocation %d ms, warm p50 %d us, p99 %d us, max %d us over %d invocations%n",
+                    coldMillis, warmMicros[warmInvocations / 2], warmMicros[(int) (warmInvocations * 0.99)],
+                    warmMicros[warmInvocations - 1], warmInvocations);
+        }
+    }
+}
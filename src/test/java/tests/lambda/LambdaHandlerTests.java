@@ -0,0 +1,68 @@
+package tests.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import io.restassured.path.json.JsonPath;
+import org.example.LambdaHandler;
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LambdaHandlerTests extends TestBase {
+
+    private static final int WARM_INVOCATIONS = 20;
+
+    @Test
+    // TC001 - Handler serves API Gateway events from the first invocation on and keeps serving them
+    public void testHandlerServesRequestsAcrossInvocations() {
+        try (LambdaHandler handler = new LambdaHandler()) {
+            String consentToken = generateConsentToken();
+            APIGatewayProxyResponseEvent created = handler.handleRequest(createConsentEvent(consentToken), new StubContext());
+            assertThat(created.getStatusCode(), equalTo(201));
+
+            String consentId = JsonPath.from(created.getBody()).getString("data.consentId");
+            APIGatewayProxyResponseEvent authorised = handler.handleRequest(event("PUT", "/test-api/consents/v1/consents/" + consentId, consentToken,
+                    "{\"data\": {\"status\": \"AUTHORISED\"}}"), new StubContext());
+            assertThat(authorised.getStatusCode(), equalTo(200));
+
+            String accountsToken = generateJwtToken("accounts", consentId);
+            for (int i = 0; i < WARM_INVOCATIONS; i++) {
+                APIGatewayProxyResponseEvent accounts = handler.handleRequest(event("GET", "/test-api/account/v1/accounts", accountsToken, null), new StubContext());
+                assertThat(accounts.getStatusCode(), equalTo(200));
+                assertThat(JsonPath.from(accounts.getBody()).getList("data"), hasSize(2));
+            }
+        }
+    }
+
+    @Test
+    // TC002 - Handler answers unauthenticated events with 401 instead of failing the invocation
+    public void testHandlerRejectsUnauthenticatedEvents() {
+        try (LambdaHandler handler = new LambdaHandler()) {
+            APIGatewayProxyResponseEvent response = handler.handleRequest(new APIGatewayProxyRequestEvent()
+                    .withHttpMethod("GET")
+                    .withPath("/test-api/account/v1/accounts")
+                    .withHeaders(Map.of()), new StubContext());
+            assertThat(response.getStatusCode(), equalTo(401));
+        }
+    }
+
+    static APIGatewayProxyRequestEvent createConsentEvent(String token) {
+        return event("POST", "/test-api/consents/v1/consents", token,
+                "{\"data\": {\"permissions\": \"ACCOUNTS_READ\", \"expirationDateTime\": \""
+                        + DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").format(LocalDateTime.now().plusDays(1)) + "\"}}");
+    }
+
+    static APIGatewayProxyRequestEvent event(String method, String path, String token, String body) {
+        return new APIGatewayProxyRequestEvent()
+                .withHttpMethod(method)
+                .withPath(path)
+                .withHeaders(Map.of("Authorization", "Bearer " + token, "Content-Type", "application/json"))
+                .withBody(body);
+    }
+}
@@ -0,0 +1,118 @@
+package tests.management;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.example.Application;
+import org.example.auth.ManagementKeyEndpointRule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import tests.TestBase;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+public class ManagementEndpointsTests extends TestBase {
+
+    private static final String MANAGEMENT_KEY = "test-management-key";
+    private static final List<String> ENDPOINTS = List.of("flightrecorder", "cachestats", "consentsweeper", "dbbulkhead");
+
+    private static EmbeddedServer server;
+
+    @BeforeAll
+    public static void startServer() {
+        server = start(MANAGEMENT_KEY);
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    // TC001 - A request without credentials can't read management endpoints
+    public void testAnonymousCannotReadManagementEndpoints() {
+        for (String endpoint : ENDPOINTS) {
+            given()
+            .when()
+                    .get(server.getURL() + "/" + endpoint)
+            .then()
+                    .statusCode(401);
+        }
+    }
+
+    @Test
+    // TC002 - A client token can't read management endpoints, whatever scopes it asserts
+    public void testClientTokenCannotReadManagementEndpoints() {
+        String token = generateJwtToken("accounts consents admin", null);
+        for (String endpoint : ENDPOINTS) {
+            given()
+                    .header("Authorization", "Bearer " + token)
+            .when()
+                    .get(server.getURL() + "/" + endpoint)
+            .then()
+                    .statusCode(403);
+        }
+    }
+
+    @Test
+    // TC003 - A wrong management key is rejected
+    public void testWrongManagementKeyIsRejected() {
+        for (String endpoint : ENDPOINTS) {
+            given()
+                    .header(ManagementKeyEndpointRule.HEADER, MANAGEMENT_KEY + "-wrong")
+            .when()
+                    .get(server.getURL() + "/" + endpoint)
+            .then()
+                    .statusCode(401);
+        }
+    }
+
+    @Test
+    // TC004 - The configured management key reads every management endpoint
+    public void testManagementKeyReadsManagementEndpoints() {
+        for (String endpoint : ENDPOINTS) {
+            given()
+                    .header(ManagementKeyEndpointRule.HEADER, MANAGEMENT_KEY)
+            .when()
+                    .get(server.getURL() + "/" + endpoint)
+            .then()
+                    .statusCode(200);
+        }
+    }
+
+    @Test
+    // TC005 - With no management key configured the endpoints stay closed, even to an empty key
+    public void testNoConfiguredKeyKeepsEndpointsClosed() {
+        try (EmbeddedServer unkeyed = start("")) {
+            for (String endpoint : ENDPOINTS) {
+                given()
+                        .header(ManagementKeyEndpointRule.HEADER, "")
+                .when()
+                        .get(unkeyed.getURL() + "/" + endpoint)
+                .then()
+                        .statusCode(not(equalTo(200)));
+            }
+        }
+    }
+
+    // Runs the application in this JVM with the management endpoints and the recorder switched on
+    private static EmbeddedServer start(String managementKey) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("micronaut.server.port", -1);
+        config.put("datasources.default.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        // The sweeper stays on so its endpoint exists, but won't run during the test
+        config.put("test-api.consent-sweeper.interval", "1h");
+        config.put("test-api.flight-recorder.enabled", "true");
+        config.put("test-api.management.key", managementKey);
+        for (String endpoint : ENDPOINTS) {
+            config.put("endpoints." + endpoint + ".enabled", "true");
+        }
+        return ApplicationContext.run(EmbeddedServer.class, config, Application.persistenceEnvironment());
+    }
+}